@@ -0,0 +1,96 @@
+package com.example.drawIt.DTO;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/*
+    소켓 페이로드 직렬화: 예전 Map 페이로드 vs 타입 레코드 + 캐시된 ObjectWriter
+    - map*    : 핸들러마다 Map 을 만들어 ObjectMapper 로 직렬화 (메시지 컨버터 경로와 같은 방식)
+    - record* : SocketEventPublisher 처럼 타입별 ObjectWriter 를 한 번 만들어 재사용
+    - 할당량은 gc 프로파일러의 gc.alloc.rate.norm (B/op) 으로 비교
+*/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class SocketEventSerializationBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ObjectWriter drawerChangedWriter;
+    private ObjectWriter wordChainStateWriter;
+
+    private List<String> playerIds;
+    private Map<String, String> nickById;
+    private Map<String, Integer> scoreByUserId;
+
+    @Setup
+    public void setup() {
+        drawerChangedWriter = objectMapper.writerFor(SocketEvent.DrawerChanged.class);
+        wordChainStateWriter = objectMapper.writerFor(SocketEvent.WordChainStateUpdate.class);
+
+        playerIds = List.of("u-1", "u-2", "u-3", "u-4", "u-5", "u-6");
+        nickById = new LinkedHashMap<>();
+        scoreByUserId = new LinkedHashMap<>();
+        for (int i = 0; i < playerIds.size(); i++) {
+            nickById.put(playerIds.get(i), "플레이어" + i);
+            scoreByUserId.put(playerIds.get(i), i * 10);
+        }
+    }
+
+    /* =========================
+       DRAWER_CHANGED (라운드마다)
+    ========================= */
+    @Benchmark
+    public byte[] drawerChangedMap() throws Exception {
+        return objectMapper.writeValueAsBytes(Map.of(
+                "type", "DRAWER_CHANGED",
+                "drawerUserId", "u-3",
+                "word", "사과",
+                "currentRound", 4,
+                "roundEndTime", 0L,
+                "serverNow", 1_700_000_000_000L
+        ));
+    }
+
+    @Benchmark
+    public byte[] drawerChangedRecord() throws Exception {
+        return drawerChangedWriter.writeValueAsBytes(new SocketEvent.DrawerChanged(
+                "u-3", "사과", 4, 0L, 1_700_000_000_000L
+        ));
+    }
+
+    /* =========================
+       WORD_CHAIN_STATE (시작 / 동기화)
+    ========================= */
+    @Benchmark
+    public byte[] wordChainStateMap() throws Exception {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("type", "WORD_CHAIN_STATE");
+        payload.put("started", true);
+        payload.put("currentWord", "기차");
+        payload.put("playerIds", playerIds);
+        payload.put("nickById", nickById);
+        payload.put("turnUserId", "u-2");
+        payload.put("round", 12);
+        payload.put("turnStartAt", 1_700_000_000_000L);
+        payload.put("turnTimeLimit", 7.5);
+        payload.put("lastAction", "ACCEPT");
+        payload.put("scoreByUserId", scoreByUserId);
+        return objectMapper.writeValueAsBytes(payload);
+    }
+
+    @Benchmark
+    public byte[] wordChainStateRecord() throws Exception {
+        return wordChainStateWriter.writeValueAsBytes(new SocketEvent.WordChainStateUpdate(
+                42L, true, "기차", playerIds, nickById, "u-2", 12,
+                1_700_000_000_000L, 7.5, "ACCEPT", null, scoreByUserId, 0
+        ));
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.drawIt.Domain;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/*
+    그림 모드 제시어 선택: 예전 필터 방식 vs 게임별 덱(WordDeck)
+    - 연산 1회 = 게임 1판 (새 게임 준비 + MAX_ROUND 번 선택)
+    - filterPerGame : 매 선택마다 풀 전체를 usedWords 로 걸러 새 ArrayList 에서 무작위 선택
+    - deckPerGame   : 게임마다 새 덱, 선택마다 남은 구간에서 한 칸만 섞음
+    - 모드당 단어 수천 ~ 수만 개를 가정해 poolSize 를 키워 가며 비교
+    - 예) ./gradlew jmh -PjmhIncludes=WordDeckBenchmark
+*/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class WordDeckBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int poolSize;
+
+    private WordPack pool;
+    private List<String> poolList;
+    private final Random random = new Random(42);
+
+    @Setup
+    public void setup() {
+        List<String> words = new ArrayList<>(poolSize);
+        for (int i = 0; i < poolSize; i++) {
+            words.add("제시어" + i);
+        }
+        pool = WordPack.of("BENCH", words, new HashSet<>());
+        poolList = new ArrayList<>(poolSize);
+        for (int i = 0; i < pool.size(); i++) {
+            poolList.add(pool.get(i));
+        }
+    }
+
+    @Benchmark
+    public void filterPerGame(Blackhole blackhole) {
+        Set<String> usedWords = new HashSet<>();
+        for (int round = 0; round < GameState.MAX_ROUND; round++) {
+            List<String> available = new ArrayList<>();
+            for (String word : poolList) {
+                if (!usedWords.contains(word)) {
+                    available.add(word);
+                }
+            }
+            String picked = available.get(random.nextInt(available.size()));
+            usedWords.add(picked);
+            blackhole.consume(picked);
+        }
+    }
+
+    @Benchmark
+    public void deckPerGame(Blackhole blackhole) {
+        WordDeck deck = WordDeck.of(pool, pool.size());
+        for (int round = 0; round < GameState.MAX_ROUND; round++) {
+            blackhole.consume(pool.get(deck.next(random)));
+        }
+    }
+}
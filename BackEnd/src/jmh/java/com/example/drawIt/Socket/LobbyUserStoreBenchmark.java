@@ -0,0 +1,100 @@
+package com.example.drawIt.Socket;
+
+import com.example.drawIt.Service.LobbyService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+    LobbyUserStore 방별 락 동시성
+    - 재접속(F5) 입장: 방 락 안에서 세션 교체 + 만료 취소, 가장 자주 타는 입장 경로
+    - singleThread  : 스레드 1개 기준값
+    - distinctRooms : 코어 수만큼 스레드, 스레드마다 다른 방 → 기준값 × 코어 수에 가까워야 함
+    - sameRoom      : 코어 수만큼 스레드가 한 방에 몰림 → 방 락 하나로 직렬화되는 최악의 경우
+    - 방 목록 / DB / 이벤트 발행은 빈 구현으로 대체 (스토어 자체의 락만 측정)
+    - 예) ./gradlew jmh -PjmhIncludes=LobbyUserStoreBenchmark
+*/
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LobbyUserStoreBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Store {
+        final AtomicInteger threads = new AtomicInteger();
+        LobbyUserStore store;
+
+        @Setup
+        public void setup() {
+            LobbyService lobbyService = new LobbyService(null, null, null, null) {
+                @Override
+                public void updateHost(String lobbyId, String userId, String nickname) {
+                }
+            };
+            LobbyDirectory lobbyDirectory = new LobbyDirectory(null, null, null, null) {
+                @Override
+                public void updateCount(String roomId, int count) {
+                }
+            };
+
+            store = new LobbyUserStore(
+                    lobbyService,
+                    null,
+                    null,
+                    null,
+                    lobbyDirectory,
+                    new DisconnectExpiryQueue(new SimpleMeterRegistry()),
+                    null,
+                    null,
+                    event -> {
+                    },
+                    null
+            );
+        }
+    }
+
+    // 스레드마다 유저 하나, 두 세션 id 를 번갈아 쓰며 재접속
+    @State(Scope.Thread)
+    public static class Player {
+        String ownRoomId;
+        String userId;
+        String[] sessionIds;
+        int turn;
+
+        @Setup
+        public void setup(Store shared) {
+            int n = shared.threads.getAndIncrement();
+            ownRoomId = "room-" + n;
+            userId = "user-" + n;
+            sessionIds = new String[]{"session-" + n + "-a", "session-" + n + "-b"};
+
+            shared.store.addUser(ownRoomId, sessionIds[0], userId, "player" + n);
+            shared.store.addUser(SHARED_ROOM, sessionIds[0], userId, "player" + n);
+        }
+
+        String nextSessionId() {
+            return sessionIds[turn++ & 1];
+        }
+    }
+
+    private static final String SHARED_ROOM = "room-shared";
+
+    @Benchmark
+    @Threads(1)
+    public void singleThread(Store shared, Player player) {
+        shared.store.addUser(player.ownRoomId, player.nextSessionId(), player.userId, "player");
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public void distinctRooms(Store shared, Player player) {
+        shared.store.addUser(player.ownRoomId, player.nextSessionId(), player.userId, "player");
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public void sameRoom(Store shared, Player player) {
+        shared.store.addUser(SHARED_ROOM, player.nextSessionId(), player.userId, "player");
+    }
+}
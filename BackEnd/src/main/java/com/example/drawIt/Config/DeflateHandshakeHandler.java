@@ -0,0 +1,36 @@
+package com.example.drawIt.Config;
+
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
+
+import java.util.List;
+
+/*
+    permessage-deflate 협상 제어
+    - 압축 자체는 컨테이너(Tomcat) 내장 확장이 수행
+    - 비활성화 시 클라이언트가 요청해도 응답 확장 목록에서 제외
+*/
+public class DeflateHandshakeHandler extends DefaultHandshakeHandler {
+
+    public static final String PERMESSAGE_DEFLATE = "permessage-deflate";
+
+    private final boolean deflateEnabled;
+
+    public DeflateHandshakeHandler(boolean deflateEnabled) {
+        this.deflateEnabled = deflateEnabled;
+    }
+
+    @Override
+    protected List<WebSocketExtension> filterRequestedExtensions(ServerHttpRequest request,
+                                                                 List<WebSocketExtension> requestedExtensions,
+                                                                 List<WebSocketExtension> supportedExtensions) {
+        List<WebSocketExtension> accepted =
+                super.filterRequestedExtensions(request, requestedExtensions, supportedExtensions);
+        if (deflateEnabled) return accepted;
+
+        return accepted.stream()
+                .filter(ext -> !PERMESSAGE_DEFLATE.equalsIgnoreCase(ext.getName()))
+                .toList();
+    }
+}
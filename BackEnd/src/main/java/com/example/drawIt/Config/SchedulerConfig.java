@@ -0,0 +1,43 @@
+package com.example.drawIt.Config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/*
+    공용 TaskScheduler
+    - STOMP 브로커 하트비트, 유휴 세션 정리, @Scheduled 작업이 함께 사용
+    - 빈 이름을 taskScheduler 로 두어 @Scheduled 기본 스케줄러로 선택되게 함
+*/
+@Configuration
+public class SchedulerConfig {
+
+    @Value("${drawit.scheduler.pool-size:4}")
+    private int poolSize;
+
+    @Bean(name = "taskScheduler")
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("drawit-sched-");
+        scheduler.setRemoveOnCancelPolicy(true);
+        scheduler.setWaitForTasksToCompleteOnShutdown(false);
+        return scheduler;
+    }
+
+    /*
+        끝말잇기 턴 마감 전용 스케줄러
+        - 방마다 다음 마감 시각 하나만 예약 (우선순위 큐), 턴이 바뀌면 취소 후 재예약
+        - 다른 주기 작업과 스레드를 나눠 마감 처리가 밀리지 않게 함
+    */
+    @Bean(name = "wordChainScheduler")
+    public ThreadPoolTaskScheduler wordChainScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("wordchain-deadline-");
+        scheduler.setRemoveOnCancelPolicy(true);
+        scheduler.setWaitForTasksToCompleteOnShutdown(false);
+        return scheduler;
+    }
+}
@@ -1,8 +1,13 @@
 package com.example.drawIt.Config;
 
+import com.example.drawIt.Socket.IdleSessionReaper;
+import com.example.drawIt.Socket.WebSocketTransportMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
@@ -11,18 +16,51 @@ import org.springframework.web.socket.server.standard.ServletServerContainerFact
 
 @Configuration
 @EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final WebSocketTransportMetrics transportMetrics;
+    private final IdleSessionReaper idleSessionReaper;
+    // SchedulerConfig 의 공용 스케줄러 (파라미터 이름으로 taskScheduler 빈 선택)
+    private final TaskScheduler taskScheduler;
+
+    @Value("${drawit.ws.native-endpoint.enabled:true}")
+    private boolean nativeEndpointEnabled;
+
+    @Value("${drawit.ws.permessage-deflate.enabled:true}")
+    private boolean deflateEnabled;
+
+    // 서버 → 클라이언트 하트비트 전송 주기
+    @Value("${drawit.ws.heartbeat.server-ms:5000}")
+    private long serverHeartbeatMs;
+
+    // 클라이언트 → 서버 하트비트 기대 주기 (브로커는 이 값의 3배 동안 수신이 없으면 세션 종료)
+    @Value("${drawit.ws.heartbeat.client-ms:5000}")
+    private long clientHeartbeatMs;
+
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
+        DeflateHandshakeHandler handshakeHandler = new DeflateHandshakeHandler(deflateEnabled);
+
+        // 구형 브라우저 / 프록시 환경용 SockJS 폴백
         registry.addEndpoint("/ws-stomp")
                 .setAllowedOriginPatterns("*")
+                .setHandshakeHandler(handshakeHandler)
                 .withSockJS();
+
+        // 네이티브 WebSocket: SockJS 프레이밍 없음 + permessage-deflate 협상
+        if (nativeEndpointEnabled) {
+            registry.addEndpoint("/ws-native")
+                    .setAllowedOriginPatterns("*")
+                    .setHandshakeHandler(handshakeHandler);
+        }
     }
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
-        registry.enableSimpleBroker("/topic", "/queue");
+        registry.enableSimpleBroker("/topic", "/queue")
+                .setHeartbeatValue(new long[]{serverHeartbeatMs, clientHeartbeatMs})
+                .setTaskScheduler(taskScheduler);
         registry.setApplicationDestinationPrefixes("/app");
         registry.setUserDestinationPrefix("/user");
     }
@@ -34,6 +72,8 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.setMessageSizeLimit(512 * 1024); // 512KB
         registry.setSendTimeLimit(20 * 10000);
         registry.setSendBufferSizeLimit(512 * 1024);
+        registry.addDecoratorFactory(transportMetrics);
+        registry.addDecoratorFactory(idleSessionReaper);
     }
 
     // 혹시 위 설정이 안 먹힐 경우를 대비해 컨테이너 레벨에서도 설정을 추가합니다.
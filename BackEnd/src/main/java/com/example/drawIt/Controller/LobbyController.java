@@ -1,20 +1,27 @@
 package com.example.drawIt.Controller;
 
 import com.example.drawIt.DTO.CreateLobbyDTO;
+import com.example.drawIt.DTO.LobbyPageDTO;
 import com.example.drawIt.DTO.LobbyResponseDTO;
+import com.example.drawIt.DTO.SocketEvent;
 import com.example.drawIt.DTO.UpdateLobbyDTO;
+import com.example.drawIt.Domain.GameMode;
+import com.example.drawIt.Domain.RoomExecutor;
+import com.example.drawIt.Domain.WordChainBots;
 import com.example.drawIt.Entity.Lobby;
 import com.example.drawIt.Repository.LobbyRepository;
 import com.example.drawIt.Repository.UserRepository;
 import com.example.drawIt.Service.LobbyService;
+import com.example.drawIt.Socket.LobbyDirectory;
 import com.example.drawIt.Socket.LobbyUserStore;
+import com.example.drawIt.Socket.SocketEventPublisher;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 @RestController
@@ -23,45 +30,12 @@ import java.util.stream.Collectors;
 public class LobbyController {
 
     private final LobbyService lobbyService;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final SocketEventPublisher eventPublisher;
     private final LobbyUserStore lobbyUserStore;
+    private final LobbyDirectory lobbyDirectory;
     private final LobbyRepository lobbyRepository;
-
-    // 방 목록 갱신 알림
-    private List<LobbyResponseDTO> buildValidLobbyList() {
-
-        List<LobbyResponseDTO> result = new ArrayList<>();
-
-        List<Lobby> lobbies = lobbyService.getAllRooms();
-        if (lobbies == null) {
-            return result;
-        }
-
-        for (Lobby lobby : lobbies) {
-
-            List<Map<String, Object>> users = lobbyUserStore.getUsers(lobby.getId());
-            int currentCount = (users != null) ? users.size() : 0;
-
-            // 0명 방 제거
-            if (currentCount <= 0) {
-                continue;
-            }
-
-            // 게임 중인데 2명 미만 → 제거
-            if (lobby.isGameStarted() && currentCount < 2) {
-                continue;
-            }
-
-            // 정상 방만 DTO 생성
-            LobbyResponseDTO dto = new LobbyResponseDTO(lobby);
-            dto.setCurrentCount(currentCount);
-            dto.setMaxCount(10);
-
-            result.add(dto);
-        }
-
-        return result;
-    }
+    private final WordChainBots wordChainBots;
+    private final RoomExecutor roomExecutor;
 
     /* ============================================================
        WebSocket: 방 목록 브로드캐스트
@@ -112,38 +86,127 @@ public class LobbyController {
         Map<String, Object> response = new HashMap<>();
 
         LobbyResponseDTO dto = new LobbyResponseDTO(lobby);
-        dto.setCurrentCount(users != null ? users.size() : 0);
+        dto.setCurrentCount(users.size());
         dto.setMaxCount(10);
 
         response.put("lobby", dto);
-        response.put("users", users != null ? users : List.of());
+        response.put("users", users);
 
         return ResponseEntity.ok(response);
     }
 
     @GetMapping("/api/lobbies")
     public List<LobbyResponseDTO> getLobbyList() {
-        return buildValidLobbyList();
+        // DB 조회 없이 메모리 로비 목록에서 바로 반환
+        return lobbyDirectory.visibleLobbies();
+    }
+
+    /*
+        방 목록 검색
+        - mode / joinable(입장 가능만) / name(이름 접두사) 필터
+        - cursor: 이전 응답의 nextCursor, size: 1~100 (기본 20)
+    */
+    @GetMapping("/api/lobbies/search")
+    public ResponseEntity<?> searchLobbies(
+            @RequestParam(required = false) String mode,
+            @RequestParam(defaultValue = "false") boolean joinable,
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        int pageSize = Math.max(1, Math.min(size, 100));
+        String normalizedMode = (mode == null || mode.isBlank()) ? null : mode.trim().toUpperCase();
+
+        try {
+            LobbyPageDTO page = lobbyDirectory.search(normalizedMode, joinable, name, cursor, pageSize);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
 
     // updateLobby 등 나머지는 기존과 동일
     @PutMapping("/lobby/{lobbyId}")
     public ResponseEntity<LobbyResponseDTO> updateLobby(@PathVariable String lobbyId, @RequestBody UpdateLobbyDTO dto) {
+        // 로비 목록(/topic/lobbies) 갱신은 LobbyDirectory 가 변경분으로 전송
         Lobby updated = lobbyService.updateLobby(lobbyId, dto);
 
-        List<LobbyResponseDTO> currentLobbyList = buildValidLobbyList();
-        messagingTemplate.convertAndSend("/topic/lobbies", currentLobbyList);
+        // 해당 방("/topic/lobby/{ID}")을 구독 중인 모든 유저에게 쏨
+        eventPublisher.send(
+                "/topic/lobby/" + lobbyId,
+                new SocketEvent.RoomUpdated(updated.getId(), updated.getName(), updated.getMode())
+        );
 
+        return ResponseEntity.ok(new LobbyResponseDTO(updated));
+    }
 
-        Map<String, Object> roomUpdatePayload = new HashMap<>();
-        roomUpdatePayload.put("type", "ROOM_UPDATED");
-        roomUpdatePayload.put("roomId", updated.getId());
-        roomUpdatePayload.put("roomName", updated.getName());
-        roomUpdatePayload.put("mode", updated.getMode());
+    /*
+        끝말잇기 봇 추가 / 제거 (테스트 / 부하 확인용)
+        - 봇은 일반 유저처럼 방 유저 목록에 들어감 (최대 인원 10명 기준)
+        - userId: 요청한 유저, 방장이 아니면 403
+        - 추가는 끝말잇기 방만 (그림 모드에서는 봇이 출제자로 뽑히면 그리지 못해 라운드가 멈춤)
+    */
+    @PostMapping("/lobby/{lobbyId}/bots")
+    public CompletableFuture<ResponseEntity<?>> addBots(@PathVariable String lobbyId,
+                                                        @RequestParam String userId,
+                                                        @RequestParam(defaultValue = "1") int count) {
+        ResponseEntity<?> denied = checkHost(lobbyId, userId, true);
+        if (denied != null) {
+            return CompletableFuture.completedFuture(denied);
+        }
 
-        // 해당 방("/topic/lobby/{ID}")을 구독 중인 모든 유저에게 쏨
-        messagingTemplate.convertAndSend("/topic/lobby/" + lobbyId, roomUpdatePayload);
+        // 인원 확인 ~ 입장까지 방 샤드에서 (동시 입장 / 퇴장과 섞여 10명을 넘지 않게)
+        CompletableFuture<ResponseEntity<?>> result = new CompletableFuture<>();
+        roomExecutor.execute(lobbyId, () -> {
+            try {
+                result.complete(ResponseEntity.ok(Map.of("added", addBotsOnShard(lobbyId, count))));
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
 
-        return ResponseEntity.ok(new LobbyResponseDTO(updated));
+    private List<String> addBotsOnShard(String lobbyId, int count) {
+        int toAdd = Math.max(0, Math.min(count, 10 - lobbyUserStore.getUserCount(lobbyId)));
+        List<String> added = new ArrayList<>();
+        for (int i = 0; i < toAdd; i++) {
+            String botUserId = wordChainBots.newBotUserId();
+            lobbyUserStore.addUser(lobbyId, WordChainBots.SESSION_PREFIX + botUserId, botUserId, "봇");
+            wordChainBots.register(lobbyId, botUserId, lobbyUserStore.getNickname(lobbyId, botUserId));
+            added.add(botUserId);
+        }
+        lobbyUserStore.sendUserSnapshot(lobbyId);
+        return added;
+    }
+
+    @DeleteMapping("/lobby/{lobbyId}/bots")
+    public ResponseEntity<?> removeBots(@PathVariable String lobbyId, @RequestParam String userId) {
+        ResponseEntity<?> denied = checkHost(lobbyId, userId, false);
+        if (denied != null) return denied;
+
+        List<String> bots = new ArrayList<>(wordChainBots.botsIn(lobbyId).keySet());
+        // 퇴장 처리(턴 이동 등)는 방 샤드에서
+        roomExecutor.execute(lobbyId, () -> {
+            for (String botUserId : bots) {
+                lobbyUserStore.leaveRoom(lobbyId, botUserId);
+            }
+        });
+        return ResponseEntity.ok(Map.of("removed", bots));
+    }
+
+    // 방장만 봇을 넣고 뺄 수 있음, 통과하면 null
+    private ResponseEntity<?> checkHost(String lobbyId, String userId, boolean wordChainOnly) {
+        Lobby lobby = lobbyService.findLobby(lobbyId).orElse(null);
+        if (lobby == null) {
+            return ResponseEntity.badRequest().body("존재하지 않는 방");
+        }
+        if (wordChainOnly && !GameMode.WORD_CHAIN.name().equals(lobby.getMode())) {
+            return ResponseEntity.badRequest().body("끝말잇기 방에서만 가능");
+        }
+        if (!Objects.equals(lobby.getHostUserId(), userId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("방장만 가능");
+        }
+        return null;
     }
-}
\ No newline at end of file
+}
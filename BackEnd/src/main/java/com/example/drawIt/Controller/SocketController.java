@@ -1,31 +1,37 @@
 package com.example.drawIt.Controller;
 
+import com.example.drawIt.DTO.SocketEvent;
 import com.example.drawIt.DTO.SocketJoinDTO;
 import com.example.drawIt.DTO.SocketProfileDTO;
 import com.example.drawIt.Domain.DrawEvent;
 import com.example.drawIt.Domain.GameMode;
 import com.example.drawIt.Domain.GameState;
 import com.example.drawIt.Domain.GameStateManager;
+import com.example.drawIt.Domain.RoomClock;
+import com.example.drawIt.Domain.RoomExecutor;
 import com.example.drawIt.Domain.WordChainGameManager;
 import com.example.drawIt.Domain.WordChainState;
 import com.example.drawIt.Entity.Lobby;
 import com.example.drawIt.Service.GameImageService;
 import com.example.drawIt.Service.LobbyService;
 import com.example.drawIt.Service.MonRnkService;
+import com.example.drawIt.Socket.LobbyDirectory;
 import com.example.drawIt.Socket.LobbyUserStore;
+import com.example.drawIt.Socket.RoomMembershipEvent;
+import com.example.drawIt.Socket.SocketEventPublisher;
+import com.example.drawIt.Socket.UserUpdateBroadcaster;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.stereotype.Controller;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Controller
@@ -33,30 +39,50 @@ import java.util.stream.Collectors;
 public class SocketController {
 
     private final LobbyUserStore lobbyUserStore;
+    private final LobbyDirectory lobbyDirectory;
     private final LobbyService lobbyService;
     private final SimpMessagingTemplate messagingTemplate;
+    private final SocketEventPublisher eventPublisher;
+    private final UserUpdateBroadcaster userUpdateBroadcaster;
     private final GameStateManager gameStateManager;
     private final WordChainGameManager wordChainGameManager;
     private final GameImageService gameImageService;
     private final MonRnkService monRnkService;
+    private final RoomClock roomClock;
+    private final RoomExecutor roomExecutor;
 
     private static final int ROUND_DURATION_SECONDS = 60;
 
-    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
-
     private final Set<String> endingLobbies = ConcurrentHashMap.newKeySet();
 
     private void notifyLobbyNotFound(String roomId) {
-        messagingTemplate.convertAndSend(
+        eventPublisher.send(
                 "/topic/lobby/" + roomId,
-                Map.of("type", "ROOM_DESTROYED", "reason", "LOBBY_NOT_FOUND")
+                new SocketEvent.RoomDestroyed("LOBBY_NOT_FOUND")
         );
     }
 
+    /*
+        로비 목록 스냅샷 (구독한 클라이언트에게만 응답)
+        - 이후 /topic/lobbies 의 LOBBY_DIFF 를 version 기준으로 이어 붙임
+    */
+    @SubscribeMapping("/lobbies/snapshot")
+    public SocketEvent.LobbySnapshot lobbySnapshot() {
+        return lobbyDirectory.snapshot();
+    }
+
+    /*
+        방 단위 핸들러는 모두 RoomExecutor 샤드로 넘겨서 처리 (xxxOnShard)
+        - 같은 방의 메시지 / 타이머가 한 스레드에서 순서대로 실행되므로 GameState 에 락 불필요
+    */
     @MessageMapping("/lobby/{roomId}/join")
     public void join(@DestinationVariable("roomId") String roomId,
                      @Payload SocketJoinDTO dto,
                      StompHeaderAccessor accessor) {
+        roomExecutor.execute(roomId, () -> joinOnShard(roomId, dto, accessor));
+    }
+
+    private void joinOnShard(String roomId, SocketJoinDTO dto, StompHeaderAccessor accessor) {
         Lobby lobby;
         try {
             lobby = lobbyService.getLobby(roomId);
@@ -73,65 +99,55 @@ public class SocketController {
         String drawerUserId = (state != null) ? state.getDrawerUserId() : null;
         String currentWord = (state != null) ? state.getCurrentWord() : null;
 
-        Map<String, Object> payload = new HashMap<>();
-        payload.put("type", "USER_UPDATE");
-        payload.put("users", lobbyUserStore.getUsers(roomId));
-        payload.put("hostUserId", lobby.getHostUserId());
-        payload.put("gameStarted", gameStarted);
-        payload.put("drawerUserId", drawerUserId);
-        if (gameStarted && currentWord != null) payload.put("word", currentWord);
+        // Full snapshot on join becomes the new delta baseline for the room.
+        List<Map<String, Object>> users = lobbyUserStore.getUsers(roomId);
+        long version = userUpdateBroadcaster.recordSnapshot(roomId, users);
 
         // Sync round timer when users join during an active game.
-        if (gameStarted) {
-            long endTime = state.getRoundEndTime();
-            payload.put("roundEndTime", endTime);
-            payload.put("serverNow", System.currentTimeMillis());
-        }
-
-        messagingTemplate.convertAndSend("/topic/lobby/" + roomId, payload);
+        eventPublisher.send("/topic/lobby/" + roomId, new SocketEvent.UserUpdate(
+                users,
+                lobby.getHostUserId(),
+                gameStarted,
+                drawerUserId,
+                gameStarted ? currentWord : null,
+                gameStarted ? state.getRoundEndTime() : null,
+                gameStarted ? System.currentTimeMillis() : null,
+                version
+        ));
 
         // Sync drawing history for users who join in the middle of a round.
         if (state != null && !state.getDrawEvents().isEmpty()) {
-            Map<String, Object> historyPayload = new HashMap<>();
-            List<Map<String, Object>> activeHistory = new ArrayList<>();
+            List<SocketEvent.HistoryItem> activeHistory = new ArrayList<>();
 
             for (DrawEvent evt : state.getDrawEvents()) {
-                activeHistory.add(convertEventToMap(evt));
+                activeHistory.add(SocketEvent.HistoryItem.from(evt));
             }
 
-            historyPayload.put("history", activeHistory);
-            List<Map<String, Object>> redoHistory = new ArrayList<>();
+            List<SocketEvent.HistoryItem> redoHistory = new ArrayList<>();
 
             for (DrawEvent evt : state.getRedoStack()) {
-                redoHistory.add(convertEventToMap(evt));
+                redoHistory.add(SocketEvent.HistoryItem.from(evt));
             }
 
-            historyPayload.put("redoStack", redoHistory);
-            messagingTemplate.convertAndSend("/topic/history/" + dto.getUserId(), historyPayload);
+            eventPublisher.send(
+                    "/topic/history/" + dto.getUserId(),
+                    new SocketEvent.DrawHistory(activeHistory, redoHistory)
+            );
         }
     }
 
-    private Map<String, Object> convertEventToMap(DrawEvent evt) {
-        Map<String, Object> map = new HashMap<>();
-        map.put("type", evt.getType());
-        map.put("x", evt.getX());
-        map.put("y", evt.getY());
-        map.put("color", evt.getColor());
-        map.put("width", evt.getLineWidth());
-        map.put("userId", evt.getUserId());
-        map.put("tool", evt.getTool());
-        map.put("points", evt.getPoints());
-        return map;
-    }
-
     @MessageMapping("/lobby/{roomId}/start")
     public void startGame(@DestinationVariable("roomId") String roomId) {
+        roomExecutor.execute(roomId, () -> startGameOnShard(roomId));
+    }
+
+    private void startGameOnShard(String roomId) {
         var users = lobbyUserStore.getUsers(roomId);
 
         if (users == null || users.size() < 2) {
-            messagingTemplate.convertAndSend(
+            eventPublisher.send(
                     "/topic/lobby/" + roomId,
-                    Map.of("type", "GAME_START_DENIED", "reason", "NOT_ENOUGH_PLAYERS")
+                    new SocketEvent.GameStartDenied("NOT_ENOUGH_PLAYERS")
             );
             return;
         }
@@ -157,17 +173,18 @@ public class SocketController {
         state.setRoundEndTime(0L);
 
         // Notify pre-round state; round will start after a short delay.
-        messagingTemplate.convertAndSend("/topic/lobby/" + roomId, Map.of(
-                "type", "GAME_START",
-                "mode", mode,
-                "drawerUserId", drawerUserId,
-                "word", state.getCurrentWord(),
-                "gameStarted", true,
-                "roundEndTime", 0L,
-                "serverNow", System.currentTimeMillis()
+        eventPublisher.send("/topic/lobby/" + roomId, new SocketEvent.GameStart(
+                mode,
+                drawerUserId,
+                state.getCurrentWord(),
+                true,
+                0L,
+                System.currentTimeMillis()
         ));
 
-        scheduler.schedule(() -> startRealGame(roomId), 3, TimeUnit.SECONDS);
+        // 라운드 페이즈 전환은 모두 RoomClock 세대를 올린 뒤 예약
+        roomClock.nextGeneration(roomId);
+        roomClock.schedule(roomId, 3000, () -> startRealGame(roomId));
     }
 
     private void startWordChainGame(String roomId, List<Map<String, Object>> users) {
@@ -179,9 +196,17 @@ public class SocketController {
                 .collect(Collectors.toList());
 
         if (snapshots.size() < 2) {
-            messagingTemplate.convertAndSend(
+            eventPublisher.send(
                     "/topic/lobby/" + roomId,
-                    Map.of("type", "GAME_START_DENIED", "reason", "NOT_ENOUGH_PLAYERS")
+                    new SocketEvent.GameStartDenied("NOT_ENOUGH_PLAYERS")
+            );
+            return;
+        }
+
+        if (!wordChainGameManager.dictionaryReady()) {
+            eventPublisher.send(
+                    "/topic/wordchain/" + roomId,
+                    new SocketEvent.WordChainStartDenied("WAIT")
             );
             return;
         }
@@ -191,33 +216,21 @@ public class SocketController {
         try {
             startWord = wordChainGameManager.pickFirstWord();
         } catch (Exception e) {
-            messagingTemplate.convertAndSend(
+            eventPublisher.send(
                     "/topic/wordchain/" + roomId,
-                    Map.of("type", "START_DENIED", "reason", "WORD_NOT_FOUND")
+                    new SocketEvent.WordChainStartDenied("WORD_NOT_FOUND")
             );
             return;
         }
 
-        state.startWithDelay(startWord, snapshots, 3000);
-        Map<String, Object> payload = new HashMap<>();
-        payload.put("type", "WORD_CHAIN_STATE");
-        payload.put("started", state.isStarted());
-        payload.put("currentWord", state.getCurrentWord());
-        payload.put("playerIds", state.getPlayerIds());
-        payload.put("nickById", state.getNickById());
-        payload.put("turnUserId", state.getTurnUserId());
-        payload.put("round", state.getRound());
-        payload.put("turnStartAt", state.getTurnStartAt());
-        payload.put("turnTimeLimit", state.getTurnTimeLimitSeconds());
-        payload.put("lastAction", "START");
-        payload.put("message", "GAME_START");
-        payload.put("scoreByUserId", state.getScoreByUserId());
-        messagingTemplate.convertAndSend("/topic/wordchain/" + roomId, payload);
-
-        messagingTemplate.convertAndSend("/topic/lobby/" + roomId, Map.of(
-                "type", "GAME_START",
-                "mode", GameMode.WORD_CHAIN.name(),
-                "gameStarted", true
+        wordChainGameManager.startGame(roomId, state, startWord, snapshots);
+        eventPublisher.send(
+                "/topic/wordchain/" + roomId,
+                SocketEvent.WordChainStateUpdate.of(state, "START", "GAME_START")
+        );
+
+        eventPublisher.send("/topic/lobby/" + roomId, new SocketEvent.GameStart(
+                GameMode.WORD_CHAIN.name(), null, null, true, null, null
         ));
     }
 
@@ -233,6 +246,10 @@ public class SocketController {
     @MessageMapping("/lobby/{roomId}/nickname")
     public void changeNickname(@DestinationVariable("roomId") String roomId,
                                @Payload Map<String, String> payload) {
+        roomExecutor.execute(roomId, () -> changeNicknameOnShard(roomId, payload));
+    }
+
+    private void changeNicknameOnShard(String roomId, Map<String, String> payload) {
         String userId = payload.get("userId");
         String nickname = payload.get("nickname");
 
@@ -242,23 +259,35 @@ public class SocketController {
     @MessageMapping("/lobby/{roomId}/leave")
     public void leave(@DestinationVariable("roomId") String roomId,
                       @Payload Map<String, String> payload) {
+        roomExecutor.execute(roomId, () -> leaveOnShard(roomId, payload));
+    }
+
+    private void leaveOnShard(String roomId, Map<String, String> payload) {
         String userId = payload.get("userId");
 
         lobbyUserStore.leaveRoom(roomId, userId);
+    }
 
-        messagingTemplate.convertAndSend(
-                "/topic/lobby/" + roomId,
-                Map.of("type", "USER_UPDATE", "users", lobbyUserStore.getUsers(roomId))
-        );
+    @MessageMapping("/lobby/{roomId}/sync")
+    public void syncUsers(@DestinationVariable("roomId") String roomId) {
+        roomExecutor.execute(roomId, () -> syncUsersOnShard(roomId));
+    }
+
+    private void syncUsersOnShard(String roomId) {
+        lobbyUserStore.sendUserSnapshot(roomId);
     }
 
     @MessageMapping("/draw/{roomId}")
     public void handleDraw(@DestinationVariable("roomId") String roomId, @Payload DrawEvent evt) {
+        roomExecutor.execute(roomId, () -> handleDrawOnShard(roomId, evt));
+    }
+
+    private void handleDrawOnShard(String roomId, DrawEvent evt) {
         GameState state = gameStateManager.getGame(roomId);
         if (state == null) return;
         if (!evt.getUserId().equals(state.getDrawerUserId())) return;
 
-        messagingTemplate.convertAndSend("/topic/lobby/" + roomId + "/draw", evt);
+        eventPublisher.send("/topic/lobby/" + roomId + "/draw", evt);
 
         switch (evt.getType()) {
             case "END":
@@ -293,6 +322,10 @@ public class SocketController {
     @MessageMapping("/draw/{roomId}/clear")
     public void clear(@DestinationVariable("roomId") String roomId,
                       @Payload Map<String, Object> payload) {
+        roomExecutor.execute(roomId, () -> clearOnShard(roomId, payload));
+    }
+
+    private void clearOnShard(String roomId, Map<String, Object> payload) {
         GameState state = gameStateManager.getGame(roomId);
         if (state == null) return;
 
@@ -305,54 +338,54 @@ public class SocketController {
         state.getDrawEvents().add(clearEvent);
         state.getRedoStack().clear();
 
-        messagingTemplate.convertAndSend(
+        eventPublisher.send(
                 "/topic/lobby/" + roomId + "/draw",
-                Map.of("type", "CLEAR", "userId", userIdObj)
+                new SocketEvent.DrawClear(userIdObj.toString())
         );
     }
 
     @MessageMapping("/chat/bubble")
     public void chatBubble(@Payload Map<String, Object> payload) {
+        roomExecutor.execute((String) payload.get("lobbyId"), () -> chatBubbleOnShard(payload));
+    }
+
+    private void chatBubbleOnShard(Map<String, Object> payload) {
         String roomId = (String) payload.get("lobbyId");
         String userId = (String) payload.get("userId");
         String message = (String) payload.get("message");
 
-        messagingTemplate.convertAndSend(
+        eventPublisher.send(
                 "/topic/chat/bubble",
-                Map.of("type", "CHAT_BUBBLE", "userId", userId, "message", message)
+                new SocketEvent.ChatBubble(userId, message)
         );
 
         GameState state = gameStateManager.getGame(roomId);
-        if (state != null && message.trim().equals(state.getCurrentWord())) {
+        if (state != null && !state.isAnswered() && message.trim().equals(state.getCurrentWord())) {
             if (userId.equals(state.getDrawerUserId())) return;
 
-            String winnerNickname = lobbyUserStore.getUsers(roomId).stream()
-                    .filter(u -> u.get("userId").equals(userId))
-                    .map(u -> (String) u.get("nickname"))
-                    .findFirst()
+            // 같은 방 메시지는 한 샤드에서 순서대로 처리되므로 첫 정답만 인정
+            state.setAnswered(true);
+
+            String winnerNickname = Optional.ofNullable(lobbyUserStore.getNickname(roomId, userId))
                     .orElse("(unknown)");
 
             System.out.println("[Server] correct answer by: " + winnerNickname);
 
+            // 점수 변경은 USER_DELTA 로 묶여서 전송됨
             lobbyUserStore.addScore(roomId, userId, 10);
             if (state.getDrawerUserId() != null) {
                 lobbyUserStore.addScore(roomId, state.getDrawerUserId(), 5);
             }
 
-            messagingTemplate.convertAndSend("/topic/lobby/" + roomId, Map.of(
-                    "type", "USER_UPDATE",
-                    "users", lobbyUserStore.getUsers(roomId),
-                    "gameStarted", true
-            ));
-
-            messagingTemplate.convertAndSend("/topic/lobby/" + roomId, Map.of(
-                    "type", "CORRECT_ANSWER",
-                    "winnerUserId", userId,
-                    "winnerNickname", winnerNickname,
-                    "answer", state.getCurrentWord()
+            eventPublisher.send("/topic/lobby/" + roomId, new SocketEvent.CorrectAnswer(
+                    userId,
+                    winnerNickname,
+                    state.getCurrentWord()
             ));
 
-            scheduler.schedule(() -> processNextRound(roomId), 4, TimeUnit.SECONDS);
+            // 시간 초과 타이머 무효화 + 연속 정답 시 다음 라운드 중복 예약 방지
+            roomClock.nextGeneration(roomId);
+            roomClock.schedule(roomId, 4000, () -> processNextRound(roomId));
         }
     }
 
@@ -374,14 +407,12 @@ public class SocketController {
             }
             endingLobbies.add(roomId);
 
-            messagingTemplate.convertAndSend("/topic/lobby/" + roomId, Map.of(
-                    "type", "GAME_OVER",
-                    "totalRounds", GameState.MAX_ROUND
-            ));
+            eventPublisher.send("/topic/lobby/" + roomId, new SocketEvent.GameOver(GameState.MAX_ROUND));
 
             System.out.println("[Server] game over, waiting vote end: " + roomId);
 
-            scheduler.schedule(() -> finishVoteAndSave(roomId), 30, TimeUnit.SECONDS);
+            roomClock.nextGeneration(roomId);
+            roomClock.schedule(roomId, 30000, () -> finishVoteAndSave(roomId));
             return;
         }
 
@@ -396,17 +427,62 @@ public class SocketController {
         state.getDrawEvents().clear();
         state.getRedoStack().clear();
         state.setRoundEndTime(0L);
+        state.setAnswered(false);
+
+        eventPublisher.send("/topic/lobby/" + roomId, new SocketEvent.DrawerChanged(
+                newDrawer,
+                newWord,
+                state.getCurrentRound(),
+                0L,
+                System.currentTimeMillis()
+        ));
+
+        roomClock.nextGeneration(roomId);
+        roomClock.schedule(roomId, 3000, () -> startRealGame(roomId));
+    }
+
+    /* =========================
+       출제자 이탈 (LobbyUserStore 인원 변경 이벤트)
+       - 같은 라운드를 새 출제자 / 새 단어로 다시 시작, 다음 라운드와 같은 경로
+         (세대 변경 → 3초 뒤 startRealGame → 시간 초과 예약)
+       - 이미 정답 / 시간 초과로 다음 라운드가 예약됐거나 투표 중이면 그대로 둠
+       - 2명 미만 종료는 LobbyUserStore 가 이벤트 전에 처리 (상태 없음)
+    ========================= */
+    @EventListener
+    public void onRoomMembership(RoomMembershipEvent event) {
+        if (event.type() != RoomMembershipEvent.Type.LEFT) return;
+        String roomId = event.roomId();
+        roomExecutor.execute(roomId, () -> replaceDrawer(roomId, event.userId()));
+    }
+
+    private void replaceDrawer(String roomId, String leftUserId) {
+        GameState state = gameStateManager.getGame(roomId);
+        if (state == null || !leftUserId.equals(state.getDrawerUserId())) return;
+        if (state.isAnswered() || endingLobbies.contains(roomId)) return;
 
-        messagingTemplate.convertAndSend("/topic/lobby/" + roomId, Map.of(
-                "type", "DRAWER_CHANGED",
-                "drawerUserId", newDrawer,
-                "word", newWord,
-                "currentRound", state.getCurrentRound(),
-                "roundEndTime", 0L,
-                "serverNow", System.currentTimeMillis()
+        var users = lobbyUserStore.getUsers(roomId);
+        if (users.size() < 2) return;
+
+        String newDrawer = gameStateManager.pickRandomDrawer(users);
+        state.setDrawerUserId(newDrawer);
+
+        String newWord = gameStateManager.pickNextWord(state);
+
+        state.getDrawEvents().clear();
+        state.getRedoStack().clear();
+        state.setRoundEndTime(0L);
+        state.setAnswered(false);
+
+        eventPublisher.send("/topic/lobby/" + roomId, new SocketEvent.DrawerChanged(
+                newDrawer,
+                newWord,
+                state.getCurrentRound(),
+                0L,
+                System.currentTimeMillis()
         ));
 
-        scheduler.schedule(() -> startRealGame(roomId), 3, TimeUnit.SECONDS);
+        roomClock.nextGeneration(roomId);
+        roomClock.schedule(roomId, 3000, () -> startRealGame(roomId));
     }
 
     private void startRealGame(String roomId) {
@@ -417,13 +493,11 @@ public class SocketController {
         long endTime = System.currentTimeMillis() + durationMs;
         state.setRoundEndTime(endTime);
 
-        messagingTemplate.convertAndSend("/topic/lobby/" + roomId, Map.of(
-                "type", "ROUND_START",
-                "roundEndTime", endTime
-        ));
+        eventPublisher.send("/topic/lobby/" + roomId, new SocketEvent.RoundStart(endTime));
 
         final int currentRound = state.getCurrentRound();
-        scheduler.schedule(() -> checkAndTimeOver(roomId, currentRound), durationMs, TimeUnit.MILLISECONDS);
+        roomClock.nextGeneration(roomId);
+        roomClock.schedule(roomId, durationMs, () -> checkAndTimeOver(roomId, currentRound));
     }
 
     private void checkAndTimeOver(String roomId, int scheduledRound) {
@@ -434,20 +508,24 @@ public class SocketController {
             return;
         }
 
+        if (state.isAnswered()) return;
+        state.setAnswered(true);
+
         System.out.println("[Server] time over (room: " + roomId + ")");
 
-        messagingTemplate.convertAndSend("/topic/lobby/" + roomId, Map.of("type", "TIME_OVER"));
+        eventPublisher.send("/topic/lobby/" + roomId, new SocketEvent.TimeOver());
 
-        scheduler.schedule(() -> {
+        roomClock.nextGeneration(roomId);
+        roomClock.schedule(roomId, 3000, () -> {
             GameState currentState = gameStateManager.getGame(roomId);
             if (currentState != null && currentState.getCurrentRound() == scheduledRound) {
                 processNextRound(roomId);
             }
-        }, 3, TimeUnit.SECONDS);
+        });
     }
 
     private synchronized void finishVoteAndSave(String roomId) {
-        if (lobbyUserStore.getUsers(roomId).isEmpty()) return;
+        if (lobbyUserStore.getUserCount(roomId) == 0) return;
 
         System.out.println("[Server] finish vote and save: " + roomId);
 
@@ -472,6 +550,10 @@ public class SocketController {
     @MessageMapping("/vote/{lobbyId}")
     public void handleVote(@DestinationVariable("lobbyId") String lobbyId,
                            @Payload Map<String, Object> payload) {
+        roomExecutor.execute(lobbyId, () -> handleVoteOnShard(lobbyId, payload));
+    }
+
+    private void handleVoteOnShard(String lobbyId, Map<String, Object> payload) {
         try {
             Integer voteIndex = (Integer) payload.get("voteIndex");
             String userId = (String) payload.get("userId");
@@ -490,6 +572,10 @@ public class SocketController {
     @MessageMapping("/lobby/{roomId}/profile")
     public void updateProfile(@DestinationVariable("roomId") String roomId,
                               @Payload SocketProfileDTO dto) {
+        roomExecutor.execute(roomId, () -> updateProfileOnShard(roomId, dto));
+    }
+
+    private void updateProfileOnShard(String roomId, SocketProfileDTO dto) {
         System.out.println("[Server] profile update requested");
         if (dto.getUserId() == null) return;
 
@@ -1,59 +1,55 @@
 package com.example.drawIt.Controller;
 
+import com.example.drawIt.DTO.SocketEvent;
+import com.example.drawIt.Domain.RoomExecutor;
 import com.example.drawIt.Domain.WordChainGameManager;
 import com.example.drawIt.Domain.WordChainState;
 import com.example.drawIt.Service.LobbyService;
 import com.example.drawIt.Socket.LobbyUserStore;
+import com.example.drawIt.Socket.RoomUsers;
+import com.example.drawIt.Socket.SocketEventPublisher;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.stereotype.Controller;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Controller
 @RequiredArgsConstructor
 public class SocketWordChainController {
 
-    private final SimpMessagingTemplate messagingTemplate;
+    private final SocketEventPublisher eventPublisher;
     private final WordChainGameManager wordChainGameManager;
     private final LobbyUserStore lobbyUserStore;
     private final LobbyService lobbyService;
+    private final RoomExecutor roomExecutor;
 
     private List<WordChainState.UserSnapshot> currentUsers(String roomId) {
-        List<Map<String, Object>> users = lobbyUserStore.getUsers(roomId);
-        return users.stream()
-                .map(u -> new WordChainState.UserSnapshot(
-                        String.valueOf(u.get("userId")),
-                        String.valueOf(u.get("nickname"))
-                ))
-                .collect(Collectors.toList());
+        RoomUsers users = lobbyUserStore.snapshot(roomId);
+        List<WordChainState.UserSnapshot> result = new ArrayList<>(users.count());
+        for (String userId : users.userIds()) {
+            result.add(new WordChainState.UserSnapshot(userId, users.nicknameOf(userId)));
+        }
+        return result;
     }
 
-    private void broadcastState(String roomId, String lastAction, Map<String, Object> extra) {
+    private void broadcastState(String roomId, String lastAction, String message) {
         WordChainState state = wordChainGameManager.getOrCreate(roomId);
+        eventPublisher.send(
+                "/topic/wordchain/" + roomId,
+                SocketEvent.WordChainStateUpdate.of(state, lastAction, message)
+        );
+    }
 
-        Map<String, Object> payload = new HashMap<>();
-        payload.put("type", "WORD_CHAIN_STATE");
-        payload.put("started", state.isStarted());
-        payload.put("currentWord", state.getCurrentWord());
-        payload.put("playerIds", state.getPlayerIds());
-        payload.put("nickById", state.getNickById());
-        payload.put("turnUserId", state.getTurnUserId());
-        payload.put("round", state.getRound());
-        payload.put("turnStartAt", state.getTurnStartAt());
-        payload.put("turnTimeLimit", state.getTurnTimeLimitSeconds());
-        payload.put("lastAction", lastAction);
-
-        // ???먯닔 ?꾨떖
-        payload.put("scoreByUserId", state.getScoreByUserId());
-
-        if (extra != null) payload.putAll(extra);
-
-        messagingTemplate.convertAndSend("/topic/wordchain/" + roomId, payload);
+    // 오답은 상태를 바꾸지 않으므로 순번도 그대로
+    private void broadcastReject(String roomId, WordChainState state, String userId, String word, String reason) {
+        eventPublisher.send(
+                "/topic/wordchain/" + roomId,
+                new SocketEvent.WordChainReject(state.getVersion(), userId, word, reason)
+        );
     }
 
     /* =========================
@@ -61,23 +57,33 @@ public class SocketWordChainController {
     ========================= */
     @MessageMapping("/wordchain/{roomId}/start")
     public void start(@DestinationVariable("roomId") String roomId) {
+        roomExecutor.execute(roomId, () -> startOnShard(roomId));
+    }
+
+    private void startOnShard(String roomId) {
 
         WordChainState state = wordChainGameManager.getOrCreate(roomId);
 
-        state.syncPlayers(currentUsers(roomId));
+        // 시작 시점 인원으로 한 번만 구성, 이후에는 인원 변경 이벤트로 갱신
         List<WordChainState.UserSnapshot> users = currentUsers(roomId);
 
         if (users.size() < 2) {
-            messagingTemplate.convertAndSend(
+            eventPublisher.send(
                     "/topic/wordchain/" + roomId,
-                    Map.of("type", "START_DENIED")
+                    new SocketEvent.WordChainStartDenied(null)
             );
-            messagingTemplate.convertAndSend(
+            eventPublisher.send(
                     "/topic/lobby/" + roomId,
-                    Map.of(
-                            "type", "GAME_START_DENIED",
-                            "reason", "NOT_ENOUGH_PLAYERS"
-                    )
+                    new SocketEvent.GameStartDenied("NOT_ENOUGH_PLAYERS")
+            );
+            return;
+        }
+
+        // 메모리 사전 적재 전(기동 직후)에는 사용 단어를 추적할 수 없으므로 시작하지 않음
+        if (!wordChainGameManager.dictionaryReady()) {
+            eventPublisher.send(
+                    "/topic/wordchain/" + roomId,
+                    new SocketEvent.WordChainStartDenied("WAIT")
             );
             return;
         }
@@ -86,25 +92,20 @@ public class SocketWordChainController {
         try {
             startWord = wordChainGameManager.pickFirstWord();
         } catch (Exception e) {
-            messagingTemplate.convertAndSend(
+            eventPublisher.send(
                     "/topic/wordchain/" + roomId,
-                    Map.of("type", "START_DENIED", "reason", "WORD_NOT_FOUND")
+                    new SocketEvent.WordChainStartDenied("WORD_NOT_FOUND")
             );
             return;
         }
 
         // ??"利됱떆 started=true" + "turnStartAt=now+3000"
-        state.startWithDelay(startWord, users, 3000);
+        wordChainGameManager.startGame(roomId, state, startWord, users);
         lobbyService.markGameStarted(roomId);
 
-        broadcastState(roomId, "START", Map.of(
-                "message", "게임 시작",
-                "turnStartAt", state.getTurnStartAt()
-        ));
-        messagingTemplate.convertAndSend("/topic/lobby/" + roomId, Map.of(
-                "type", "GAME_START",
-                "mode", "WORD_CHAIN",
-                "gameStarted", true
+        broadcastState(roomId, "START", "게임 시작");
+        eventPublisher.send("/topic/lobby/" + roomId, new SocketEvent.GameStart(
+                "WORD_CHAIN", null, null, true, null, null
         ));
     }
 
@@ -112,17 +113,21 @@ public class SocketWordChainController {
        ?곹깭 ?숆린??
     ========================= */
     @MessageMapping("/wordchain/{roomId}/sync")
-    public void sync(@DestinationVariable("roomId") String roomId) {
+    public void sync(@DestinationVariable("roomId") String roomId, StompHeaderAccessor accessor) {
+        String sessionId = accessor.getSessionId();
+        if (sessionId == null) return;
+        roomExecutor.execute(roomId, () -> syncOnShard(roomId, sessionId));
+    }
 
+    // 전체 상태는 요청한 세션에만 (재접속 / 순번 누락 복구용, 다른 유저는 이미 최신)
+    private void syncOnShard(String roomId, String sessionId) {
+        // 시간 초과는 턴 마감 타이머, 인원 변경은 이벤트가 처리
         WordChainState state = wordChainGameManager.getOrCreate(roomId);
-
-        if (state.isTimeOver(System.currentTimeMillis())) {
-            wordChainGameManager.handleTimeOver(roomId, state);
-            return;
-        }
-
-        state.syncPlayers(currentUsers(roomId));
-        broadcastState(roomId, null, null);
+        eventPublisher.sendToSession(
+                sessionId,
+                "/queue/wordchain",
+                SocketEvent.WordChainStateUpdate.of(state, null, null)
+        );
     }
 
     /* =========================
@@ -133,58 +138,52 @@ public class SocketWordChainController {
             @DestinationVariable("roomId") String roomId,
             @Payload Map<String, Object> dto
     ) {
+        roomExecutor.execute(roomId, () -> submitOnShard(roomId, dto));
+    }
+
+    private void submitOnShard(String roomId, Map<String, Object> dto) {
         String userId = String.valueOf(dto.get("userId"));
-        String nickname = String.valueOf(dto.getOrDefault("nickname", ""));
         String word = String.valueOf(dto.get("word")).trim();
 
         WordChainState state = wordChainGameManager.getOrCreate(roomId);
-        state.syncPlayers(currentUsers(roomId));
 
         // ??留먰뭾??(?깃났/?ㅽ뙣 ?곴??놁씠)
-        messagingTemplate.convertAndSend(
+        eventPublisher.send(
                 "/topic/chat/bubble/" + roomId,
-                Map.of(
-                        "type", "CHAT_BUBBLE",
-                        "userId", userId,
-                        "message", word
-                )
+                new SocketEvent.ChatBubble(userId, word)
         );
 
-        // ??怨듯넻 extra 媛앹껜 (?ш린????踰덈쭔 ?좎뼵)
-        Map<String, Object> extra = new HashMap<>();
-        extra.put("submitUserId", userId);
-        extra.put("submitNickname", nickname);
-        extra.put("submitWord", word);
-
         // ??紐⑤떖 3珥??숈븞 ?쒖텧 諛⑹?
         long now = System.currentTimeMillis();
         if (state.isStarted() && now < state.getTurnStartAt()) {
-            extra.put("message", "잠시 후 게임이 시작됩니다.");
-            broadcastState(roomId, "REJECT", extra);
+            broadcastReject(roomId, state, userId, word, "WAIT");
             return;
         }
 
         // ???ъ쟾???녿뒗 ?⑥뼱
-        if (!wordChainGameManager.existsInDictionary(word)) {
-            extra.put("message", "사전에 없는 단어입니다.");
-            broadcastState(roomId, "REJECT", extra);
+        int ordinal = wordChainGameManager.dictionaryOrdinalOf(word);
+        if (ordinal == WordChainGameManager.NOT_IN_DICTIONARY) {
+            broadcastReject(roomId, state, userId, word, "NOT_IN_DICTIONARY");
             return;
         }
 
         // ??洹쒖튃 ?꾨컲
-        if (!state.submit(userId, word)) {
-            extra.put("message", "규칙에 맞지 않는 단어입니다.");
-            broadcastState(roomId, "REJECT", extra);
+        if (!state.submit(userId, word, ordinal)) {
+            broadcastReject(roomId, state, userId, word, "RULE");
             return;
         }
 
         // ???뺣떟 泥섎━
-        state.addScore(userId, 10);
-        state.decreaseTurnLimit();
-        state.onNextTurn();
+        long version = wordChainGameManager.acceptAnswer(roomId, state, userId);
+
+        // 이어갈 단어가 사전에 없으면 바로 알려줌 (첫 글자 구간 개수만 확인)
+        String lastChar = word.substring(word.length() - 1);
+        boolean deadEnd = !wordChainGameManager.canContinueWith(lastChar);
 
-        extra.put("message", "통과!");
-        broadcastState(roomId, "ACCEPT", extra);
+        eventPublisher.send(
+                "/topic/wordchain/" + roomId,
+                SocketEvent.WordChainAccept.of(version, state, userId, word, deadEnd)
+        );
     }
 
     /* =========================
@@ -200,13 +199,9 @@ public class SocketWordChainController {
 
         if (message.isEmpty()) return;
 
-        messagingTemplate.convertAndSend(
+        eventPublisher.send(
                 "/topic/chat/bubble/" + roomId,
-                Map.of(
-                        "type", "CHAT_BUBBLE",
-                        "userId", userId,
-                        "message", message
-                )
+                new SocketEvent.ChatBubble(userId, message)
         );
     }
 
@@ -215,26 +210,25 @@ public class SocketWordChainController {
             @DestinationVariable("roomId") String roomId,
             @Payload Map<String, String> payload
     ) {
-        String userId = payload.get("userId");
+        roomExecutor.execute(roomId, () -> leaveWordChainOnShard(roomId, payload));
+    }
 
+    private void leaveWordChainOnShard(String roomId, Map<String, String> payload) {
         WordChainState state = wordChainGameManager.get(roomId);
         // ?앸쭚?뉕린 ?곹깭媛 ?놁쑝硫?寃뚯엫 ?쒖옉 ?꾩씠嫄곕굹 ?대? 醫낅즺) ?ш린?쒕뒗 ??寃??놁쓬
         if (state == null) return;
 
         // ?⑥? ?좎?(leave??SocketController?먯꽌 ?ㅼ젣濡??쒓굅?? ?ш린?쒕뒗 "?꾩옱 store 湲곗?"?쇰줈 ?먮떒)
-        List<Map<String, Object>> remainUsers = lobbyUserStore.getUsers(roomId);
+        RoomUsers remainUsers = lobbyUserStore.snapshot(roomId);
 
         /* =========================
            耳?댁뒪 A) 寃뚯엫 以?+ 1紐낅쭔 ?⑥쓬 ??寃뚯엫 醫낅즺 + 諛???젣
         ========================= */
-        if (state.isStarted() && remainUsers.size() < 2) {
+        if (state.isStarted() && remainUsers.count() < 2) {
 
-            messagingTemplate.convertAndSend(
+            eventPublisher.send(
                     "/topic/wordchain/" + roomId,
-                    Map.of(
-                            "type", "WORD_CHAIN_END",
-                            "reason", "NOT_ENOUGH_PLAYERS"
-                    )
+                    SocketEvent.WordChainEnd.of("NOT_ENOUGH_PLAYERS")
             );
 
             wordChainGameManager.remove(roomId);
@@ -243,31 +237,7 @@ public class SocketWordChainController {
             return;
         }
 
-        /* =========================
-           耳?댁뒪 B) ???좎?媛 ?섍컧 ???쒕뜡 ?좎??먭쾶 ???대룞 + 紐⑤떖 ?대깽??
-        ========================= */
-        if (state.isStarted() && userId != null && userId.equals(state.getTurnUserId())) {
-
-            List<String> ids = remainUsers.stream()
-                    .map(u -> (String) u.get("userId"))
-                    .toList();
-
-            if (!ids.isEmpty()) {
-                String nextTurnUserId = ids.get(new Random().nextInt(ids.size()));
-
-                state.setTurnUserId(nextTurnUserId);
-                state.setTurnStartAt(System.currentTimeMillis());
-
-                messagingTemplate.convertAndSend(
-                        "/topic/wordchain/" + roomId,
-                        Map.of(
-                                "type", "WORD_CHAIN_TURN_USER_LEFT",
-                                "newTurnUserId", nextTurnUserId,
-                                "turnStartAt", state.getTurnStartAt()
-                        )
-                );
-            }
-        }
+        // 턴 유저 이탈 시 턴 이동은 방 인원 변경 이벤트(LEFT)에서 처리 (WordChainGameManager.onRoomMembership)
     }
 }
 
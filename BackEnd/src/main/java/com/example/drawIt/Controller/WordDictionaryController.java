@@ -0,0 +1,118 @@
+package com.example.drawIt.Controller;
+
+import com.example.drawIt.Domain.WordPacks;
+import com.example.drawIt.Service.WordImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/words")
+@RequiredArgsConstructor
+public class WordDictionaryController {
+
+    private final WordImportService wordImportService;
+    private final WordPacks wordPacks;
+
+    // 관리 API 호출 시 X-Admin-Token 헤더 값, 비어 있으면 관리 API 비활성
+    @Value("${drawit.admin.token:}")
+    private String adminToken;
+
+    /*
+        단어 사전 가져오기
+        - 예) curl -H "X-Admin-Token: $TOKEN" --data-binary @words.txt "http://localhost:8080/api/admin/words/import"
+        - CSV 면 column 으로 단어 열 지정(0부터), 중단됐으면 fromLine=이전 결과의 committedLine
+        - 요청 스레드는 본문을 임시 파일로 받기만 하고 202 반환, DB 반영은 백그라운드
+          → 진행 여부 / 결과는 GET /import
+    */
+    @PostMapping("/import")
+    public ResponseEntity<?> importWords(
+            HttpServletRequest request,
+            @RequestHeader(value = "X-Admin-Token", required = false) String token,
+            @RequestParam(defaultValue = "-1") int column,
+            @RequestParam(defaultValue = "0") long fromLine
+    ) throws IOException {
+        ResponseEntity<?> denied = checkAdmin(token);
+        if (denied != null) return denied;
+
+        if (wordImportService.isRunning()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("이미 가져오기가 진행 중입니다.");
+        }
+
+        Path file = Files.createTempFile("word-import-", ".txt");
+        try (InputStream in = request.getInputStream()) {
+            Files.copy(in, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+
+        try {
+            wordImportService.start(file, column, fromLine);
+        } catch (IllegalStateException e) {
+            Files.deleteIfExists(file);
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        }
+        return ResponseEntity.accepted().body(Map.of("running", true));
+    }
+
+    /*
+        가져오기 진행 여부 + 마지막 결과 (아직 없으면 result = null)
+        - committedLine: 진행 중이면 지금까지 DB 반영이 끝난 줄 (중단 시 fromLine 으로 사용)
+    */
+    @GetMapping("/import")
+    public ResponseEntity<?> importStatus(@RequestHeader(value = "X-Admin-Token", required = false) String token) {
+        ResponseEntity<?> denied = checkAdmin(token);
+        if (denied != null) return denied;
+
+        Map<String, Object> body = new HashMap<>();
+        body.put("running", wordImportService.isRunning());
+        body.put("result", wordImportService.lastResult());
+        body.put("committedLine", wordImportService.committedLine());
+        return ResponseEntity.ok(body);
+    }
+
+    /*
+        그림 모드 제시어 팩 상태 (팩별 단어 수 / 메모리, 마지막 적재 시간)
+    */
+    @GetMapping("/packs")
+    public ResponseEntity<Map<String, Object>> packs() {
+        return ResponseEntity.ok(wordPacks.stats());
+    }
+
+    /*
+        제시어 팩 다시 적재 (drawit.words.packs.location 의 파일 기준, 진행 중인 게임은 다음 제시어부터 반영)
+    */
+    @PostMapping("/packs/reload")
+    public ResponseEntity<?> reloadPacks(@RequestHeader(value = "X-Admin-Token", required = false) String token) {
+        ResponseEntity<?> denied = checkAdmin(token);
+        if (denied != null) return denied;
+
+        return ResponseEntity.ok(wordPacks.reload());
+    }
+
+    // 토큰 미설정이면 404 (없는 API 취급), 불일치면 403, 통과하면 null
+    private ResponseEntity<?> checkAdmin(String token) {
+        if (adminToken == null || adminToken.isBlank()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (token == null || !MessageDigest.isEqual(
+                adminToken.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8))) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return null;
+    }
+}
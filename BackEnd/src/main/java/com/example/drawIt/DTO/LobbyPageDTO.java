@@ -0,0 +1,16 @@
+package com.example.drawIt.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class LobbyPageDTO {
+    private List<LobbyResponseDTO> lobbies;
+    // 다음 페이지 요청 시 그대로 전달, 마지막 페이지면 null
+    private String nextCursor;
+    // 조회 시점의 로비 목록 버전 (/topic/lobbies 와 동일)
+    private long version;
+}
@@ -0,0 +1,290 @@
+package com.example.drawIt.DTO;
+
+import com.example.drawIt.Domain.DrawEvent;
+import com.example.drawIt.Domain.WordChainState;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/*
+    소켓으로 나가는 모든 이벤트 페이로드
+    - type 필드는 @JsonTypeName 으로 자동 기록
+    - null 필드는 전송하지 않음
+*/
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, include = JsonTypeInfo.As.PROPERTY, property = "type")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public sealed interface SocketEvent {
+
+    /* =========================
+       로비 / 유저
+    ========================= */
+    @JsonTypeName("USER_UPDATE")
+    record UserUpdate(
+            List<Map<String, Object>> users,
+            String hostUserId,
+            Boolean gameStarted,
+            String drawerUserId,
+            String word,
+            Long roundEndTime,
+            Long serverNow,
+            Long version
+    ) implements SocketEvent {}
+
+    // 기준 버전(baseVersion) 대비 변경분만 담은 USER_UPDATE
+    @JsonTypeName("USER_DELTA")
+    record UserDelta(
+            long version,
+            long baseVersion,
+            List<Map<String, Object>> added,
+            List<String> removed,
+            List<UserChange> changed,
+            List<String> order,
+            String hostUserId,
+            boolean gameStarted
+    ) implements SocketEvent {}
+
+    // 바뀐 필드만 채워서 보냄
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record UserChange(String userId, String nickname, Boolean host, Integer score, Object profileImage) {
+        public static UserChange between(String userId, Map<String, Object> before, Map<String, Object> after) {
+            String nickname = changedOrNull(before, after, "nickname");
+            Boolean host = changedOrNull(before, after, "host");
+            Integer score = changedOrNull(before, after, "score");
+            Object profileImage = changedOrNull(before, after, "profileImage");
+
+            if (nickname == null && host == null && score == null && profileImage == null) {
+                return null;
+            }
+            return new UserChange(userId, nickname, host, score, profileImage);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T changedOrNull(Map<String, Object> before, Map<String, Object> after, String key) {
+            Object value = after.get(key);
+            return Objects.equals(before.get(key), value) ? null : (T) value;
+        }
+    }
+
+    /* =========================
+       로비 목록 (/topic/lobbies)
+    ========================= */
+    // version 시점의 전체 방 목록
+    @JsonTypeName("LOBBY_SNAPSHOT")
+    record LobbySnapshot(long version, List<LobbyResponseDTO> lobbies) implements SocketEvent {}
+
+    // baseVersion 대비 변경분
+    @JsonTypeName("LOBBY_DIFF")
+    record LobbyDiff(long version, long baseVersion, List<LobbyChange> changes) implements SocketEvent {}
+
+    // op: ADDED / UPDATED(방 전체) · REMOVED · COUNT · STARTED
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record LobbyChange(String op, String id, LobbyResponseDTO lobby, Integer currentCount, Boolean gameStarted) {
+        public static LobbyChange added(LobbyResponseDTO lobby) {
+            return new LobbyChange("ADDED", lobby.getId(), lobby, null, null);
+        }
+
+        public static LobbyChange updated(LobbyResponseDTO lobby) {
+            return new LobbyChange("UPDATED", lobby.getId(), lobby, null, null);
+        }
+
+        public static LobbyChange removed(String id) {
+            return new LobbyChange("REMOVED", id, null, null, null);
+        }
+
+        public static LobbyChange count(String id, int currentCount) {
+            return new LobbyChange("COUNT", id, null, currentCount, null);
+        }
+
+        public static LobbyChange started(String id, boolean gameStarted) {
+            return new LobbyChange("STARTED", id, null, null, gameStarted);
+        }
+    }
+
+    @JsonTypeName("ROOM_DESTROYED")
+    record RoomDestroyed(String reason) implements SocketEvent {}
+
+    @JsonTypeName("ROOM_UPDATED")
+    record RoomUpdated(String roomId, String roomName, String mode) implements SocketEvent {}
+
+    @JsonTypeName("GAME_START_DENIED")
+    record GameStartDenied(String reason) implements SocketEvent {}
+
+    /* =========================
+       그림 맞추기 진행
+    ========================= */
+    @JsonTypeName("GAME_START")
+    record GameStart(
+            String mode,
+            String drawerUserId,
+            String word,
+            boolean gameStarted,
+            Long roundEndTime,
+            Long serverNow
+    ) implements SocketEvent {}
+
+    @JsonTypeName("DRAWER_CHANGED")
+    record DrawerChanged(
+            String drawerUserId,
+            String word,
+            Integer currentRound,
+            Long roundEndTime,
+            Long serverNow
+    ) implements SocketEvent {}
+
+    @JsonTypeName("ROUND_START")
+    record RoundStart(long roundEndTime) implements SocketEvent {}
+
+    @JsonTypeName("TIME_OVER")
+    record TimeOver() implements SocketEvent {}
+
+    @JsonTypeName("CORRECT_ANSWER")
+    record CorrectAnswer(String winnerUserId, String winnerNickname, String answer) implements SocketEvent {}
+
+    @JsonTypeName("GAME_OVER")
+    record GameOver(int totalRounds) implements SocketEvent {}
+
+    @JsonTypeName("CHAT_BUBBLE")
+    record ChatBubble(String userId, String message) implements SocketEvent {}
+
+    /* =========================
+       그림 이벤트
+    ========================= */
+    @JsonTypeName("CLEAR")
+    record DrawClear(String userId) implements SocketEvent {}
+
+    @JsonTypeName("DRAW_HISTORY")
+    record DrawHistory(List<HistoryItem> history, List<HistoryItem> redoStack) implements SocketEvent {}
+
+    // 히스토리 항목은 프론트 호환을 위해 lineWidth 대신 width 로 내려줌
+    record HistoryItem(
+            String type,
+            float x,
+            float y,
+            String color,
+            float width,
+            String userId,
+            String tool,
+            List<DrawEvent.Point> points
+    ) {
+        public static HistoryItem from(DrawEvent evt) {
+            return new HistoryItem(
+                    evt.getType(),
+                    evt.getX(),
+                    evt.getY(),
+                    evt.getColor(),
+                    evt.getLineWidth(),
+                    evt.getUserId(),
+                    evt.getTool(),
+                    evt.getPoints()
+            );
+        }
+    }
+
+    /* =========================
+       끝말잇기
+       - 전체 상태(WORD_CHAIN_STATE)는 시작 / sync 때만
+       - 진행 중에는 바뀐 필드만 담은 이벤트 + 순번(version, 전체 상태와 같은 필드)
+         ACCEPT / TURN / TIMEOUT 은 WordChainGameManager 가 상태를 바꾸며 올린 순번,
+         REJECT 는 상태를 바꾸지 않으므로 현재 순번 그대로
+    ========================= */
+    @JsonTypeName("WORD_CHAIN_STATE")
+    record WordChainStateUpdate(
+            long version,
+            boolean started,
+            String currentWord,
+            List<String> playerIds,
+            Map<String, String> nickById,
+            String turnUserId,
+            int round,
+            long turnStartAt,
+            double turnTimeLimit,
+            String lastAction,
+            String message,
+            Map<String, Integer> scoreByUserId,
+            int timeoutCount
+    ) implements SocketEvent {
+        public static WordChainStateUpdate of(WordChainState state, String lastAction, String message) {
+            return new WordChainStateUpdate(
+                    state.getVersion(),
+                    state.isStarted(),
+                    state.getCurrentWord(),
+                    state.getPlayerIds(),
+                    state.getNickById(),
+                    state.getTurnUserId(),
+                    state.getRound(),
+                    state.getTurnStartAt(),
+                    state.getTurnTimeLimitSeconds(),
+                    lastAction,
+                    message,
+                    state.getScoreByUserId(),
+                    state.getTimeoutCount()
+            );
+        }
+    }
+
+    // 정답: 제출 단어가 현재 단어가 되고 다음 턴 시작 (deadEnd = 이어갈 단어가 사전에 없음)
+    @JsonTypeName("WORD_CHAIN_ACCEPT")
+    record WordChainAccept(
+            long version,
+            String userId,
+            String word,
+            int score,
+            int round,
+            String turnUserId,
+            long turnStartAt,
+            double turnTimeLimit,
+            Boolean deadEnd
+    ) implements SocketEvent {
+        public static WordChainAccept of(long version, WordChainState state, String userId, String word, boolean deadEnd) {
+            return new WordChainAccept(
+                    version,
+                    userId,
+                    word,
+                    state.getScoreByUserId().getOrDefault(userId, 0),
+                    state.getRound(),
+                    state.getTurnUserId(),
+                    state.getTurnStartAt(),
+                    state.getTurnTimeLimitSeconds(),
+                    deadEnd ? Boolean.TRUE : null
+            );
+        }
+    }
+
+    // 오답 (reason: WAIT / NOT_IN_DICTIONARY / RULE)
+    @JsonTypeName("WORD_CHAIN_REJECT")
+    record WordChainReject(long version, String userId, String word, String reason) implements SocketEvent {}
+
+    // 정답 없이 턴만 바뀜 (reason: USER_LEFT)
+    @JsonTypeName("WORD_CHAIN_TURN")
+    record WordChainTurn(long version, String turnUserId, long turnStartAt, String reason) implements SocketEvent {
+        public static WordChainTurn of(long version, WordChainState state, String reason) {
+            return new WordChainTurn(version, state.getTurnUserId(), state.getTurnStartAt(), reason);
+        }
+    }
+
+    @JsonTypeName("WORD_CHAIN_TIMEOUT")
+    record WordChainTimeout(long version, String turnUserId, long turnStartAt, int timeoutCount) implements SocketEvent {
+        public static WordChainTimeout of(long version, WordChainState state) {
+            return new WordChainTimeout(
+                    version,
+                    state.getTurnUserId(),
+                    state.getTurnStartAt(),
+                    state.getTimeoutCount()
+            );
+        }
+    }
+
+    @JsonTypeName("START_DENIED")
+    record WordChainStartDenied(String reason) implements SocketEvent {}
+
+    @JsonTypeName("WORD_CHAIN_END")
+    record WordChainEnd(String reason, List<String> winners, Integer timeoutCount) implements SocketEvent {
+        public static WordChainEnd of(String reason) {
+            return new WordChainEnd(reason, null, null);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.drawIt.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+    단어 사전 가져오기 결과
+    - committedLine: DB 반영까지 끝난 마지막 줄 번호, 중단 시 fromLine 으로 넘겨 이어서 진행
+    - inserted: 실제로 들어간 행 수, duplicates: 파일 안 중복 + 이미 있던 단어
+    - linesPerSecond: 이번 실행에서 처리한 줄 수 기준 (단어 수 아님)
+*/
+@Getter
+@AllArgsConstructor
+public class WordImportResultDTO {
+    private boolean completed;
+    private long linesRead;
+    private long committedLine;
+    private long inserted;
+    private long duplicates;
+    private long rejected;
+    private long elapsedMs;
+    private long linesPerSecond;
+    private String error;
+}
@@ -0,0 +1,512 @@
+package com.example.drawIt.Domain;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Random;
+
+/*
+    단어 사전 불변 스냅샷
+    - 모든 단어를 UTF-16 순으로 정렬해 char[] 하나에 이어 붙이고 offsets 로 구분
+      (String 객체 수십만 개 대신 배열 몇 개)
+    - 존재 확인: 블룸 필터 → 이진 탐색 (없는 단어는 대부분 필터에서 바로 걸러짐)
+    - 정렬돼 있으므로 같은 첫 글자의 단어는 연속 구간 → 첫 글자별 [시작, 끝) 만 저장
+      (정렬된 첫 글자 char[] + 시작 위치 int[], 이진 탐색 한 번, 박싱 / 할당 없음)
+      무작위 선택 / 개수 확인은 구간 찾은 뒤 O(1)
+    - ordinal: 단어마다 0부터 빈틈없이 매긴 번호 (게임별 사용 여부 BitSet 의 인덱스)
+      word_dictionary.id 는 INSERT IGNORE 로 건너뛴 값까지 소모되어 계속 커지므로 BitSet 인덱스로 쓰지 않음
+      build 는 입력(id) 순서로 매기고, plus 는 새 단어만 뒤에 이어 붙임, 전체 재적재는 withOrdinalsOf 로 이어받음
+    - ranked: 첫 글자 구간 안에서 "끝 글자로 이어갈 수 있는 단어 수" 내림차순으로 다시 정렬한 위치
+      (끝말잇기 봇이 앞에서부터 몇 개만 보면 되도록, 처음 요청 시 한 번만 계산)
+    - 변경 시 새 스냅샷을 만들어 통째로 교체 (새 행 추가는 plus: 기존 배열과 병합)
+*/
+public final class DictionarySnapshot {
+
+    static final DictionarySnapshot EMPTY = build(new long[0], new String[0], 0);
+
+    private static final int BLOOM_BITS_PER_WORD = 10;
+    private static final int BLOOM_HASHES = 7;
+    // 이 비율만큼 여유를 두고 만들어 plus 때 필터를 다시 만들지 않고 비트만 추가
+    private static final int BLOOM_HEADROOM_PERCENT = 25;
+
+    private final char[] chars;
+    private final int[] offsets;   // i 번째 단어 = chars[offsets[i], offsets[i + 1])
+    private final long[] ids;      // 정렬 위치별 word_dictionary.id
+    private final int[] ordinals;  // 정렬 위치별 ordinal
+    private final int ordinalCount;
+    private final long maxId;
+
+    private final long[] bloom;
+    private final int bloomBits;
+
+    // 구간 b: 첫 글자 firstChars[b], 위치 [bucketStarts[b], bucketStarts[b + 1])
+    private final char[] firstChars;
+    private final int[] bucketStarts;
+
+    private volatile int[] ranked;
+
+    private DictionarySnapshot(char[] chars, int[] offsets, long[] ids, int[] ordinals, int ordinalCount, long maxId) {
+        this(chars, offsets, ids, ordinals, ordinalCount, maxId, null, 0);
+    }
+
+    // bloom == null 이면 새로 만듦, 아니면 이미 모든 단어가 들어간 필터
+    private DictionarySnapshot(char[] chars, int[] offsets, long[] ids, int[] ordinals, int ordinalCount, long maxId,
+                               long[] bloom, int bloomBits) {
+        this.chars = chars;
+        this.offsets = offsets;
+        this.ids = ids;
+        this.ordinals = ordinals;
+        this.ordinalCount = ordinalCount;
+        this.maxId = maxId;
+
+        int n = ids.length;
+        int bucketCount = 0;
+        for (int i = 0; i < n; i++) {
+            if (i == 0 || firstCharAt(i) != firstCharAt(i - 1)) bucketCount++;
+        }
+        this.firstChars = new char[bucketCount];
+        this.bucketStarts = new int[bucketCount + 1];
+        int b = 0;
+        for (int i = 0; i < n; i++) {
+            if (i == 0 || firstCharAt(i) != firstCharAt(i - 1)) {
+                firstChars[b] = firstCharAt(i);
+                bucketStarts[b] = i;
+                b++;
+            }
+        }
+        bucketStarts[bucketCount] = n;
+
+        if (bloom != null) {
+            this.bloomBits = bloomBits;
+            this.bloom = bloom;
+        } else {
+            long words = (long) n * (100 + BLOOM_HEADROOM_PERCENT) / 100;
+            this.bloomBits = (int) Math.min(Integer.MAX_VALUE - 63, Math.max(64, words * BLOOM_BITS_PER_WORD));
+            this.bloom = new long[(this.bloomBits + 63) >>> 6];
+            for (int i = 0; i < n; i++) {
+                addToBloom(this.bloom, this.bloomBits, chars, offsets[i], offsets[i + 1]);
+            }
+        }
+    }
+
+    /*
+        (id, word) 쌍으로 생성, 중복 단어는 먼저 나온 것만 유지
+    */
+    static DictionarySnapshot build(long[] ids, String[] words, int count) {
+        int[] order = new int[count];
+        for (int i = 0; i < count; i++) order[i] = i;
+        sortByWord(order, words);
+
+        long[] sortedIds = new long[count];
+        // 정렬 위치 → 입력 위치 (ordinal 계산용)
+        int[] source = new int[count];
+        int[] offsets = new int[count + 1];
+        int totalChars = 0;
+        for (int i = 0; i < count; i++) totalChars += words[i].length();
+        char[] chars = new char[totalChars];
+
+        int n = 0;
+        int pos = 0;
+        long maxId = 0;
+        String previous = null;
+        for (int i = 0; i < count; i++) {
+            String word = words[order[i]];
+            if (word.equals(previous)) continue;
+            previous = word;
+
+            offsets[n] = pos;
+            word.getChars(0, word.length(), chars, pos);
+            pos += word.length();
+            sortedIds[n] = ids[order[i]];
+            source[n] = order[i];
+            maxId = Math.max(maxId, sortedIds[n]);
+            n++;
+        }
+        offsets[n] = pos;
+
+        return new DictionarySnapshot(
+                n == count ? chars : Arrays.copyOf(chars, pos),
+                n == count ? offsets : Arrays.copyOf(offsets, n + 1),
+                n == count ? sortedIds : Arrays.copyOf(sortedIds, n),
+                ordinalsInInputOrder(source, n, count),
+                n,
+                maxId
+        );
+    }
+
+    // 남은 단어에 입력 순서대로 0, 1, 2 ... (입력 위치는 서로 다르므로 위치별 표시 후 한 번 훑음)
+    private static int[] ordinalsInInputOrder(int[] source, int n, int count) {
+        int[] sortedAt = new int[count];
+        Arrays.fill(sortedAt, -1);
+        for (int i = 0; i < n; i++) sortedAt[source[i]] = i;
+
+        int[] ordinals = new int[n];
+        int next = 0;
+        for (int input = 0; input < count; input++) {
+            if (sortedAt[input] >= 0) ordinals[sortedAt[input]] = next++;
+        }
+        return ordinals;
+    }
+
+    /*
+        전체 다시 적재한 스냅샷에 이전 스냅샷의 ordinal 을 이어받음
+        - 이전에도 있던 단어는 같은 ordinal (진행 중인 게임의 사용 표시 유지)
+        - 새 단어는 이전 ordinalCount 뒤부터, 삭제된 단어의 번호는 비워 둠
+        - 두 스냅샷 모두 정렬돼 있으므로 한 번 훑어서 대응: O(n + m)
+    */
+    DictionarySnapshot withOrdinalsOf(DictionarySnapshot previous) {
+        int n = size();
+        int m = previous.size();
+        int[] inherited = new int[n];
+        int next = previous.ordinalCount;
+
+        int j = 0;
+        for (int i = 0; i < n; i++) {
+            while (j < m && previous.compareWords(j, this, i) < 0) j++;
+            inherited[i] = j < m && previous.compareWords(j, this, i) == 0 ? previous.ordinals[j] : next++;
+        }
+        return new DictionarySnapshot(chars, offsets, ids, inherited, next, maxId, bloom, bloomBits);
+    }
+
+    /*
+        새 행을 더한 스냅샷 (기존 스냅샷은 그대로)
+        - 새 단어 k 개만 정렬한 뒤 기존 정렬 배열에 병합: O(n + k log n)
+          기존 단어는 String 으로 꺼내지 않고, 새 단어 사이의 기존 구간을 arraycopy 로 통째로 복사
+        - 정렬된 배열 하나에 끼워 넣는 구조라 새 배열로의 복사(O(n))는 남음 (제자리 추가는 불가)
+        - 블룸 필터는 여유 안이면 복사 후 새 단어 비트만 추가, 넘치면 새로 만듦
+        - 이미 있는 단어는 기존 id 유지 (build 와 같은 규칙)
+        - 새 단어의 ordinal 은 ordinalCount 뒤에 이어 붙임 (기존 단어 번호는 그대로)
+    */
+    DictionarySnapshot plus(long[] newIds, String[] newWords, int newCount) {
+        DictionarySnapshot added = build(newIds, newWords, newCount);
+        int n = size();
+        int k = added.size();
+        if (k == 0) return this;
+
+        char[] mergedChars = new char[chars.length + added.chars.length];
+        int[] mergedOffsets = new int[n + k + 1];
+        long[] mergedIds = new long[n + k];
+        int[] mergedOrdinals = new int[n + k];
+
+        int i = 0;      // 기존 위치
+        int out = 0;    // 결과 위치
+        int pos = 0;    // 결과 chars 위치
+        int inserted = 0;
+        long mergedMaxId = maxId;
+        for (int j = 0; j < k; j++) {
+            // 새 단어 j 보다 앞에 오는 기존 구간 [i, end) 를 한 번에 복사
+            int end = lowerBound(i, added, j);
+            if (end > i) {
+                int from = offsets[i];
+                int length = offsets[end] - from;
+                System.arraycopy(chars, from, mergedChars, pos, length);
+                System.arraycopy(ids, i, mergedIds, out, end - i);
+                System.arraycopy(ordinals, i, mergedOrdinals, out, end - i);
+                int shift = pos - from;
+                for (int x = i; x < end; x++) {
+                    mergedOffsets[out++] = offsets[x] + shift;
+                }
+                pos += length;
+                i = end;
+            }
+
+            // 이미 있는 단어면 건너뜀
+            if (i < n && compareWords(i, added, j) == 0) continue;
+
+            int from = added.offsets[j];
+            int length = added.offsets[j + 1] - from;
+            System.arraycopy(added.chars, from, mergedChars, pos, length);
+            mergedOffsets[out] = pos;
+            mergedIds[out] = added.ids[j];
+            mergedOrdinals[out] = ordinalCount + inserted;
+            mergedMaxId = Math.max(mergedMaxId, added.ids[j]);
+            out++;
+            pos += length;
+            inserted++;
+        }
+        if (inserted == 0) return this;
+
+        // 남은 기존 구간
+        if (i < n) {
+            int from = offsets[i];
+            int length = offsets[n] - from;
+            System.arraycopy(chars, from, mergedChars, pos, length);
+            System.arraycopy(ids, i, mergedIds, out, n - i);
+            System.arraycopy(ordinals, i, mergedOrdinals, out, n - i);
+            int shift = pos - from;
+            for (int x = i; x < n; x++) {
+                mergedOffsets[out++] = offsets[x] + shift;
+            }
+            pos += length;
+        }
+        mergedOffsets[out] = pos;
+
+        char[] resultChars = pos == mergedChars.length ? mergedChars : Arrays.copyOf(mergedChars, pos);
+        int[] resultOffsets = out == n + k ? mergedOffsets : Arrays.copyOf(mergedOffsets, out + 1);
+        long[] resultIds = out == n + k ? mergedIds : Arrays.copyOf(mergedIds, out);
+        int[] resultOrdinals = out == n + k ? mergedOrdinals : Arrays.copyOf(mergedOrdinals, out);
+        int resultOrdinalCount = ordinalCount + inserted;
+
+        // 필터 여유 안이면 새 단어 비트만 추가
+        if ((long) out * BLOOM_BITS_PER_WORD > bloomBits) {
+            return new DictionarySnapshot(resultChars, resultOffsets, resultIds,
+                    resultOrdinals, resultOrdinalCount, mergedMaxId);
+        }
+        long[] patched = bloom.clone();
+        for (int j = 0; j < k; j++) {
+            addToBloom(patched, bloomBits, added.chars, added.offsets[j], added.offsets[j + 1]);
+        }
+        return new DictionarySnapshot(resultChars, resultOffsets, resultIds,
+                resultOrdinals, resultOrdinalCount, mergedMaxId, patched, bloomBits);
+    }
+
+    // [from, size) 에서 other 의 j 번째 단어 이상인 첫 위치
+    private int lowerBound(int from, DictionarySnapshot other, int j) {
+        int lo = from;
+        int hi = size();
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (compareWords(mid, other, j) < 0) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    // 이 스냅샷의 index 번째 단어와 other 의 j 번째 단어 비교 (String.compareTo 와 같은 순서)
+    private int compareWords(int index, DictionarySnapshot other, int j) {
+        int start = offsets[index];
+        int len = offsets[index + 1] - start;
+        int otherStart = other.offsets[j];
+        int otherLen = other.offsets[j + 1] - otherStart;
+        int lim = Math.min(len, otherLen);
+        for (int x = 0; x < lim; x++) {
+            char a = chars[start + x];
+            char b = other.chars[otherStart + x];
+            if (a != b) return a - b;
+        }
+        return len - otherLen;
+    }
+
+    /* =========================
+       조회
+    ========================= */
+    public boolean contains(String word) {
+        return indexOf(word) >= 0;
+    }
+
+    // 정렬 위치, 없으면 -1
+    public int indexOf(String word) {
+        if (word == null || word.isEmpty() || !mightContain(word)) return -1;
+
+        int lo = 0;
+        int hi = size() - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int cmp = compareAt(mid, word);
+            if (cmp < 0) lo = mid + 1;
+            else if (cmp > 0) hi = mid - 1;
+            else return mid;
+        }
+        return -1;
+    }
+
+    // 해당 글자로 시작하는 단어 수 (0 이면 이어갈 단어 없음)
+    public int countStartingWith(char first) {
+        int b = bucketOf(first);
+        return b < 0 ? 0 : bucketStarts[b + 1] - bucketStarts[b];
+    }
+
+    // 해당 글자로 시작하는 단어 중 무작위 위치, 없으면 -1
+    public int randomStartingWith(char first, Random random) {
+        int b = bucketOf(first);
+        if (b < 0) return -1;
+        return bucketStarts[b] + random.nextInt(bucketStarts[b + 1] - bucketStarts[b]);
+    }
+
+    /*
+        해당 글자로 시작하고 usedOrdinals 에 없는 단어 중 무작위 위치, 없으면 -1
+        - 무작위 시작점부터 구간을 한 바퀴 돌며 첫 미사용 단어 선택
+    */
+    public int randomUnusedStartingWith(char first, Random random, BitSet usedOrdinals) {
+        int b = bucketOf(first);
+        if (b < 0) return -1;
+
+        int from = bucketStarts[b];
+        int size = bucketStarts[b + 1] - from;
+        int offset = random.nextInt(size);
+        for (int i = 0; i < size; i++) {
+            int index = from + (offset + i) % size;
+            if (!usedOrdinals.get(ordinals[index])) return index;
+        }
+        return -1;
+    }
+
+    /*
+        해당 글자로 시작하는 미사용 단어 중 이어갈 단어가 많은 상위 topK 개에서 무작위 위치, 없으면 -1
+        - 상위부터 훑으므로 이번 게임에서 쓴 단어 수만큼만 더 봄
+    */
+    public int rankedUnusedStartingWith(char first, Random random, BitSet usedOrdinals, int topK) {
+        int b = bucketOf(first);
+        if (b < 0) return -1;
+
+        int[] order = ranked();
+        int found = 0;
+        int choice = -1;
+        for (int i = bucketStarts[b]; i < bucketStarts[b + 1] && found < topK; i++) {
+            int index = order[i];
+            if (usedOrdinals.get(ordinals[index])) continue;
+            // 균등 샘플링 (저수지 방식)
+            found++;
+            if (random.nextInt(found) == 0) choice = index;
+        }
+        return choice;
+    }
+
+    private int[] ranked() {
+        int[] result = ranked;
+        if (result != null) return result;
+
+        int n = size();
+        long[] keyed = new long[n];
+        for (int i = 0; i < n; i++) {
+            int continuations = countStartingWith(chars[offsets[i + 1] - 1]);
+            keyed[i] = ((long) (Integer.MAX_VALUE - continuations) << 32) | i;
+        }
+        // 첫 글자 구간은 그대로 두고, 구간 안에서만 이어갈 단어 수가 많은 순으로
+        for (int b = 0; b < firstChars.length; b++) {
+            Arrays.sort(keyed, bucketStarts[b], bucketStarts[b + 1]);
+        }
+
+        result = new int[n];
+        for (int i = 0; i < n; i++) {
+            result[i] = (int) keyed[i];
+        }
+        ranked = result;
+        return result;
+    }
+
+    public String wordAt(int index) {
+        return new String(chars, offsets[index], offsets[index + 1] - offsets[index]);
+    }
+
+    public long idAt(int index) {
+        return ids[index];
+    }
+
+    // 게임별 사용 여부 BitSet 인덱스 (0 ~ ordinalCount - 1)
+    public int ordinalAt(int index) {
+        return ordinals[index];
+    }
+
+    public int ordinalCount() {
+        return ordinalCount;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public long maxId() {
+        return maxId;
+    }
+
+    // 배열 본체 기준 대략적인 사용량
+    public long memoryBytes() {
+        return (long) chars.length * Character.BYTES
+                + (long) offsets.length * Integer.BYTES
+                + (long) ids.length * Long.BYTES
+                + (long) ordinals.length * Integer.BYTES
+                + (long) bloom.length * Long.BYTES
+                + (long) firstChars.length * Character.BYTES
+                + (long) bucketStarts.length * Integer.BYTES;
+    }
+
+    private char firstCharAt(int index) {
+        return chars[offsets[index]];
+    }
+
+    // 첫 글자 구간 번호, 없으면 -1
+    private int bucketOf(char first) {
+        int b = Arrays.binarySearch(firstChars, first);
+        return b < 0 ? -1 : b;
+    }
+
+    /*
+        order 를 words[order[i]] 의 String 순서로 정렬 (안정 병합 정렬, Integer 박싱 없음)
+        - 같은 단어는 원래 순서 유지 → build 에서 먼저 나온 행이 남음
+    */
+    private static void sortByWord(int[] order, String[] words) {
+        int n = order.length;
+        int[] src = order;
+        int[] dst = new int[n];
+        for (int width = 1; width < n; width <<= 1) {
+            for (int lo = 0; lo < n; lo += width << 1) {
+                int mid = Math.min(lo + width, n);
+                int hi = Math.min(lo + (width << 1), n);
+                int i = lo;
+                int j = mid;
+                int k = lo;
+                while (i < mid && j < hi) {
+                    dst[k++] = words[src[j]].compareTo(words[src[i]]) < 0 ? src[j++] : src[i++];
+                }
+                while (i < mid) dst[k++] = src[i++];
+                while (j < hi) dst[k++] = src[j++];
+            }
+            int[] tmp = src;
+            src = dst;
+            dst = tmp;
+        }
+        if (src != order) {
+            System.arraycopy(src, 0, order, 0, n);
+        }
+    }
+
+    private boolean mightContain(String word) {
+        int h1 = word.hashCode();
+        int h2 = mix(h1);
+        for (int k = 0; k < BLOOM_HASHES; k++) {
+            int bit = Math.floorMod(h1 + k * h2, bloomBits);
+            if ((bloom[bit >>> 6] & (1L << bit)) == 0) return false;
+        }
+        return true;
+    }
+
+    // 저장된 index 번째 단어와 word 비교 (String.compareTo 와 같은 순서)
+    private int compareAt(int index, String word) {
+        int start = offsets[index];
+        int len = offsets[index + 1] - start;
+        int lim = Math.min(len, word.length());
+        for (int i = 0; i < lim; i++) {
+            char a = chars[start + i];
+            char b = word.charAt(i);
+            if (a != b) return a - b;
+        }
+        return len - word.length();
+    }
+
+    private static void addToBloom(long[] bloom, int bloomBits, char[] chars, int from, int to) {
+        int h1 = hash(chars, from, to);
+        int h2 = mix(h1);
+        for (int k = 0; k < BLOOM_HASHES; k++) {
+            int bit = Math.floorMod(h1 + k * h2, bloomBits);
+            bloom[bit >>> 6] |= 1L << bit;
+        }
+    }
+
+    // String.hashCode 와 같은 값
+    private static int hash(char[] chars, int from, int to) {
+        int h = 0;
+        for (int i = from; i < to; i++) {
+            h = 31 * h + chars[i];
+        }
+        return h;
+    }
+
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h | 1;
+    }
+}
@@ -21,6 +21,7 @@ public class GameState {
     private int roundDuration;    // 라운드 남은 시간 (초단위)
 
     private int currentRound = 1; // 현재 라운드(1~10)
+    private boolean answered;     // 이번 라운드 정답/시간초과 처리 여부 (방 샤드에서만 변경)
     public static final int MAX_ROUND = 10; // 총 라운드
 
     // 동시성 문제를 방지하기 위해 CopyOnWriteArrayList 사용 (좋습니다!)
@@ -29,7 +30,7 @@ public class GameState {
 
     private Map<String, Integer> drawCounts = new HashMap<>();
 
-    private Set<String> usedWords = new HashSet<>(); //이미 출제된 단어 목록 (중복 방지용)
+    private WordDeck wordDeck; // 이번 게임 제시어 덱 (한 바퀴 돌 때까지 중복 없음)
 
     // 생성자 수정: roomId와 drawerUserId 두 개를 받도록 변경
     public GameState(String roomId, String drawerUserId, String mode, int roundDuration) {
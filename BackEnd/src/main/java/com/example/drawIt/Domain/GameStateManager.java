@@ -3,6 +3,7 @@ package com.example.drawIt.Domain;
 import org.springframework.stereotype.Component;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 
 @Component
@@ -66,7 +67,7 @@ public class GameStateManager {
 
     public String pickRandomDrawer(List<Map<String, Object>> users) {
         if (users == null || users.isEmpty()) return null;
-        int idx = new Random().nextInt(users.size());
+        int idx = ThreadLocalRandom.current().nextInt(users.size());
         return (String) users.get(idx).get("userId");
     }
 
@@ -109,7 +110,7 @@ public class GameStateManager {
         }
 
         // 후보군 내에서 완전 랜덤 추첨
-        int idx = new Random().nextInt(candidates.size());
+        int idx = ThreadLocalRandom.current().nextInt(candidates.size());
         String nextDrawer = candidates.get(idx);
 
         // 카운트 증가
@@ -0,0 +1,77 @@
+package com.example.drawIt.Domain;
+
+/*
+    두음법칙 표 (끝말잇기 이어 말하기용)
+    - 완성형 음절 11,172자마다 "이 글자로 끝나면 대신 시작할 수 있는 글자"를 기동 시 한 번 계산
+      음절 = 0xAC00 + (초성 * 21 + 중성) * 28 + 종성
+    - ㄹ + ㅑ ㅕ ㅖ ㅛ ㅠ ㅣ → ㅇ (력 → 역, 리 → 이)
+      ㄹ + ㅏ ㅐ ㅗ ㅚ ㅜ ㅡ → ㄴ (락 → 낙, 로 → 노)
+      ㄴ + ㅕ ㅛ ㅠ ㅣ     → ㅇ (녀 → 여, 니 → 이)
+    - 종성은 그대로 유지, 해당 없으면 0
+    - 조회는 배열 한 칸 (할당 없음)
+*/
+public final class HangulInitialSound {
+
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final int SYLLABLE_COUNT = 11172;
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    // 초성 인덱스
+    private static final int CHO_NIEUN = 2;
+    private static final int CHO_RIEUL = 5;
+    private static final int CHO_IEUNG = 11;
+
+    // 중성 인덱스 비트 (ㅏ=0 ... ㅣ=20)
+    private static final int RIEUL_TO_IEUNG = vowels(2, 6, 7, 12, 17, 20);   // ㅑ ㅕ ㅖ ㅛ ㅠ ㅣ
+    private static final int RIEUL_TO_NIEUN = vowels(0, 1, 8, 11, 13, 18);   // ㅏ ㅐ ㅗ ㅚ ㅜ ㅡ
+    private static final int NIEUN_TO_IEUNG = vowels(6, 12, 17, 20);         // ㅕ ㅛ ㅠ ㅣ
+
+    private static final char[] VARIANT = build();
+
+    private HangulInitialSound() {
+    }
+
+    /*
+        last 로 끝난 단어 다음에 first 로 시작하는 단어를 이어도 되는지
+    */
+    public static boolean canFollow(char last, char first) {
+        return first == last || (first != 0 && variantOf(last) == first);
+    }
+
+    // 두음법칙으로 바뀐 글자, 없으면 0
+    public static char variantOf(char last) {
+        int index = last - SYLLABLE_BASE;
+        if (index < 0 || index >= SYLLABLE_COUNT) return 0;
+        return VARIANT[index];
+    }
+
+    private static char[] build() {
+        char[] table = new char[SYLLABLE_COUNT];
+        for (int index = 0; index < SYLLABLE_COUNT; index++) {
+            int cho = index / (JUNG_COUNT * JONG_COUNT);
+            int jung = (index / JONG_COUNT) % JUNG_COUNT;
+            int jong = index % JONG_COUNT;
+
+            int to = -1;
+            if (cho == CHO_RIEUL && has(RIEUL_TO_IEUNG, jung)) to = CHO_IEUNG;
+            else if (cho == CHO_RIEUL && has(RIEUL_TO_NIEUN, jung)) to = CHO_NIEUN;
+            else if (cho == CHO_NIEUN && has(NIEUN_TO_IEUNG, jung)) to = CHO_IEUNG;
+
+            if (to >= 0) {
+                table[index] = (char) (SYLLABLE_BASE + (to * JUNG_COUNT + jung) * JONG_COUNT + jong);
+            }
+        }
+        return table;
+    }
+
+    private static int vowels(int... jungs) {
+        int mask = 0;
+        for (int jung : jungs) mask |= 1 << jung;
+        return mask;
+    }
+
+    private static boolean has(int mask, int jung) {
+        return (mask & (1 << jung)) != 0;
+    }
+}
@@ -0,0 +1,301 @@
+package com.example.drawIt.Domain;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/*
+    방 단위 게임 타이머 (계층형 타이밍 휠)
+    - 10ms 틱, 64칸 x 4단계 (약 0.64초 / 41초 / 44분 / 46시간 범위)
+    - 등록/취소는 아무 스레드에서나 가능, 휠 조작은 틱 스레드 하나에서만
+    - 실행은 방 샤드(RoomExecutor)로 넘겨 틱 스레드가 막히지 않게 하고,
+      같은 방의 메시지 핸들러와 순서가 섞이지 않게 함
+
+    세대(generation) 토큰
+    - 방마다 세대 번호를 두고, schedule 시점의 세대를 타이머에 기록
+    - nextGeneration 으로 라운드/페이즈가 바뀌면 이전 세대 타이머는 실행 시점에 버려짐
+    - cancelRoom 으로 방 종료 시 남은 타이머 전부 폐기
+*/
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomClock {
+
+    private static final long TICK_MS = 10;
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 4;
+
+    private final RoomExecutor roomExecutor;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, RoomTimers> rooms = new ConcurrentHashMap<>();
+    private final Queue<Timeout> incoming = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+
+    // 아래는 틱 스레드 전용
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private final List<Timeout>[][] wheels = new List[LEVELS][WHEEL_SIZE];
+    private final List<Timeout> overflow = new ArrayList<>();
+    private long tick;
+
+    private long startNanos;
+    private volatile boolean running;
+    private Thread ticker;
+
+    private Timer lag;
+    private Counter fired;
+    private Counter droppedCancelled;
+    private Counter droppedSuperseded;
+
+    private static class RoomTimers {
+        final AtomicLong generation = new AtomicLong();
+        final Set<Timeout> timeouts = ConcurrentHashMap.newKeySet();
+    }
+
+    /*
+        예약된 타이머 핸들
+    */
+    public final class Timeout {
+        private final String roomId;
+        private final RoomTimers room;
+        private final long generation;
+        private final long deadlineMs;
+        private final Runnable task;
+        private volatile boolean cancelled;
+
+        private Timeout(String roomId, RoomTimers room, long deadlineMs, Runnable task) {
+            this.roomId = roomId;
+            this.room = room;
+            this.generation = room.generation.get();
+            this.deadlineMs = deadlineMs;
+            this.task = task;
+        }
+
+        // 휠에서는 만료 시점에 정리됨
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        private long deadlineTick() {
+            // 올림: 예정 시각보다 일찍 실행되지 않도록
+            return (deadlineMs + TICK_MS - 1) / TICK_MS;
+        }
+
+        private boolean isLive() {
+            return !cancelled
+                    && rooms.get(roomId) == room
+                    && room.generation.get() == generation;
+        }
+    }
+
+    @PostConstruct
+    void start() {
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < WHEEL_SIZE; slot++) {
+                wheels[level][slot] = new ArrayList<>();
+            }
+        }
+
+        lag = Timer.builder("drawit.room.clock.lag")
+                .description("Delay between a room timer deadline and its dispatch")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        fired = meterRegistry.counter("drawit.room.clock.fired");
+        droppedCancelled = meterRegistry.counter("drawit.room.clock.dropped", "reason", "cancelled");
+        droppedSuperseded = meterRegistry.counter("drawit.room.clock.dropped", "reason", "superseded");
+        meterRegistry.gauge("drawit.room.clock.pending", pending);
+
+        startNanos = System.nanoTime();
+        running = true;
+        ticker = new Thread(this::run, "room-clock");
+        ticker.setDaemon(true);
+        ticker.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        ticker.interrupt();
+    }
+
+    /* =========================
+       공개 API
+    ========================= */
+    public Timeout schedule(String roomId, long delayMs, Runnable task) {
+        long deadlineMs = nowMs() + Math.max(0, delayMs);
+        Timeout[] created = new Timeout[1];
+
+        // 빈 방 항목 정리(release)와 겹치지 않도록 compute 안에서 등록
+        rooms.compute(roomId, (k, room) -> {
+            if (room == null) room = new RoomTimers();
+            created[0] = new Timeout(roomId, room, deadlineMs, task);
+            room.timeouts.add(created[0]);
+            return room;
+        });
+
+        pending.incrementAndGet();
+        incoming.add(created[0]);
+        return created[0];
+    }
+
+    /*
+        새 페이즈 시작 → 이전 세대 타이머 무효화
+    */
+    public long nextGeneration(String roomId) {
+        return rooms.computeIfAbsent(roomId, k -> new RoomTimers()).generation.incrementAndGet();
+    }
+
+    /*
+        방 종료 → 남은 타이머 전부 취소
+    */
+    public void cancelRoom(String roomId) {
+        RoomTimers room = rooms.remove(roomId);
+        if (room == null) return;
+
+        for (Timeout timeout : room.timeouts) {
+            timeout.cancelled = true;
+        }
+        room.timeouts.clear();
+    }
+
+    /* =========================
+       틱 스레드
+    ========================= */
+    private void run() {
+        while (running) {
+            long target = startNanos + TimeUnit.MILLISECONDS.toNanos((tick + 1) * TICK_MS);
+            long wait = target - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+                if (Thread.currentThread().isInterrupted()) return;
+                continue;
+            }
+
+            // 밀렸으면 쉬지 않고 따라잡음
+            tick++;
+            try {
+                advance();
+            } catch (Exception e) {
+                log.error("[Server] room clock tick failed", e);
+            }
+        }
+    }
+
+    private void advance() {
+        // 상위 단계부터 현재 구간에 해당하는 칸을 아래 단계로 내림
+        if ((tick & ((1L << (WHEEL_BITS * LEVELS)) - 1)) == 0 && !overflow.isEmpty()) {
+            List<Timeout> far = new ArrayList<>(overflow);
+            overflow.clear();
+            far.forEach(this::place);
+        }
+        for (int level = LEVELS - 1; level >= 1; level--) {
+            if ((tick & ((1L << (WHEEL_BITS * level)) - 1)) != 0) continue;
+
+            List<Timeout> bucket = wheels[level][(int) ((tick >> (WHEEL_BITS * level)) & WHEEL_MASK)];
+            if (bucket.isEmpty()) continue;
+
+            List<Timeout> cascaded = new ArrayList<>(bucket);
+            bucket.clear();
+            cascaded.forEach(this::place);
+        }
+
+        Timeout added;
+        while ((added = incoming.poll()) != null) {
+            place(added);
+        }
+
+        List<Timeout> due = wheels[0][(int) (tick & WHEEL_MASK)];
+        if (due.isEmpty()) return;
+
+        List<Timeout> expired = new ArrayList<>(due);
+        due.clear();
+        expired.forEach(this::dispatch);
+    }
+
+    private void place(Timeout timeout) {
+        if (timeout.cancelled) {
+            drop(timeout, droppedCancelled);
+            return;
+        }
+
+        long deadline = timeout.deadlineTick();
+        if (deadline <= tick) {
+            dispatch(timeout);
+            return;
+        }
+
+        // 상위 비트가 현재 틱과 같아지는 가장 낮은 단계에 배치
+        for (int level = 0; level < LEVELS; level++) {
+            int shift = WHEEL_BITS * (level + 1);
+            if ((deadline >> shift) == (tick >> shift)) {
+                wheels[level][(int) ((deadline >> (WHEEL_BITS * level)) & WHEEL_MASK)].add(timeout);
+                return;
+            }
+        }
+        overflow.add(timeout);
+    }
+
+    private void dispatch(Timeout timeout) {
+        if (timeout.cancelled) {
+            drop(timeout, droppedCancelled);
+            return;
+        }
+        if (!timeout.isLive()) {
+            drop(timeout, droppedSuperseded);
+            return;
+        }
+
+        fired.increment();
+        lag.record(Duration.ofMillis(Math.max(0, nowMs() - timeout.deadlineMs)));
+
+        roomExecutor.execute(timeout.roomId, () -> {
+            try {
+                // 넘기는 사이에 페이즈가 바뀌었으면 실행하지 않음
+                if (timeout.isLive()) {
+                    timeout.task.run();
+                }
+            } catch (Exception e) {
+                log.error("[Server] room timer failed: room={}", timeout.roomId, e);
+            } finally {
+                release(timeout);
+            }
+        });
+    }
+
+    private void drop(Timeout timeout, Counter reason) {
+        reason.increment();
+        release(timeout);
+    }
+
+    // 남은 타이머가 없는 방 항목은 제거 (세대 정보도 더 이상 필요 없음)
+    private void release(Timeout timeout) {
+        pending.decrementAndGet();
+        timeout.room.timeouts.remove(timeout);
+        rooms.computeIfPresent(timeout.roomId,
+                (k, room) -> room == timeout.room && room.timeouts.isEmpty() ? null : room);
+    }
+
+    private long nowMs() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.drawIt.Domain;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/*
+    방 단위 샤드 실행기
+    - 스레드 하나짜리 샤드 N개, 방은 roomId 해시로 한 샤드에 고정
+    - 같은 방의 메시지 핸들러 / 타이머는 모두 같은 샤드에서 순서대로 실행
+      → GameState, WordChainState 등 방 상태는 락 없이 단일 스레드로만 변경
+    - 이미 해당 샤드 스레드 위라면 바로 실행
+*/
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomExecutor {
+
+    private final MeterRegistry meterRegistry;
+
+    // 0 이면 CPU 코어 수
+    @Value("${drawit.room.shards:0}")
+    private int configuredShards;
+
+    private Shard[] shards;
+
+    private static final class Shard {
+        final ThreadPoolExecutor executor;
+        volatile Thread thread;
+
+        Shard(int index) {
+            this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(), runnable -> {
+                        Thread t = new Thread(runnable, "room-shard-" + index);
+                        t.setDaemon(true);
+                        thread = t;
+                        return t;
+                    });
+        }
+    }
+
+    @PostConstruct
+    void start() {
+        int count = configuredShards > 0 ? configuredShards : Runtime.getRuntime().availableProcessors();
+        shards = new Shard[count];
+
+        for (int i = 0; i < count; i++) {
+            Shard shard = new Shard(i);
+            shards[i] = shard;
+            Gauge.builder("drawit.room.shard.queue", shard.executor, e -> e.getQueue().size())
+                    .description("Tasks waiting on a room shard")
+                    .tag("shard", String.valueOf(i))
+                    .register(meterRegistry);
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        for (Shard shard : shards) {
+            shard.executor.shutdownNow();
+        }
+    }
+
+    public void execute(String roomId, Runnable task) {
+        Shard shard = shardOf(roomId);
+        if (Thread.currentThread() == shard.thread) {
+            run(task);
+            return;
+        }
+        shard.executor.execute(() -> run(task));
+    }
+
+    public boolean isOnShard(String roomId) {
+        return Thread.currentThread() == shardOf(roomId).thread;
+    }
+
+    private Shard shardOf(String roomId) {
+        int h = roomId == null ? 0 : roomId.hashCode();
+        h ^= (h >>> 16);
+        return shards[Math.floorMod(h, shards.length)];
+    }
+
+    private void run(Runnable task) {
+        try {
+            task.run();
+        } catch (Exception e) {
+            log.error("[Server] room task failed on {}", Thread.currentThread().getName(), e);
+        }
+    }
+}
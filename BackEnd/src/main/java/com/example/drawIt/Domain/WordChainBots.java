@@ -0,0 +1,170 @@
+package com.example.drawIt.Domain;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/*
+    끝말잇기 봇
+    - 방 유저 목록(LobbyUserStore)에는 일반 유저처럼 들어가고, 세션 대신 "BOT-" 세션 id 를 가짐
+    - 턴이 바뀔 때마다(armTurnDeadline) 봇 차례면 think time 뒤에 RoomClock 으로 제출 예약
+    - 제출은 클라이언트와 같은 경로: /app/wordchain/{roomId}/submit 메시지를 clientInboundChannel 로 보냄
+      → 사전 확인 / 규칙 검사 / 점수 / 브로드캐스트 모두 실제 유저와 동일 (부하 발생기로도 사용)
+    - 단어 선택은 DictionarySnapshot 의 ranked 구간 (이어갈 단어가 많은 상위 후보 중 무작위)
+*/
+@Slf4j
+@Component
+public class WordChainBots {
+
+    public static final String SESSION_PREFIX = "BOT-";
+
+    private final RoomClock roomClock;
+    private final WordDictionaryIndex wordDictionaryIndex;
+    private final MessageChannel clientInboundChannel;
+    private final ObjectMapper objectMapper;
+    private final Counter moves;
+    private final Counter passes;
+
+    // roomId → (botUserId → nickname)
+    private final Map<String, Map<String, String>> botsByRoom = new ConcurrentHashMap<>();
+    // roomId → 이미 제출을 예약한 턴의 turnStartAt (같은 턴 재예약 방지)
+    private final Map<String, Long> plannedTurn = new ConcurrentHashMap<>();
+
+    @Value("${drawit.bots.think-ms-min:800}")
+    private long thinkMsMin;
+
+    @Value("${drawit.bots.think-ms-max:2500}")
+    private long thinkMsMax;
+
+    @Value("${drawit.bots.top-candidates:8}")
+    private int topCandidates;
+
+    public WordChainBots(RoomClock roomClock,
+                         WordDictionaryIndex wordDictionaryIndex,
+                         @Lazy @Qualifier("clientInboundChannel") MessageChannel clientInboundChannel,
+                         ObjectMapper objectMapper,
+                         MeterRegistry meterRegistry) {
+        this.roomClock = roomClock;
+        this.wordDictionaryIndex = wordDictionaryIndex;
+        this.clientInboundChannel = clientInboundChannel;
+        this.objectMapper = objectMapper;
+        this.moves = meterRegistry.counter("drawit.bots.moves", "result", "submit");
+        this.passes = meterRegistry.counter("drawit.bots.moves", "result", "pass");
+    }
+
+    /* =========================
+       봇 등록 / 해제
+    ========================= */
+    public String newBotUserId() {
+        return "bot-" + Long.toHexString(ThreadLocalRandom.current().nextLong() & 0xFFFFFFFFFFFFL);
+    }
+
+    public void register(String roomId, String botUserId, String nickname) {
+        botsByRoom.computeIfAbsent(roomId, k -> new ConcurrentHashMap<>()).put(botUserId, nickname);
+    }
+
+    public void unregister(String roomId, String botUserId) {
+        botsByRoom.computeIfPresent(roomId, (k, bots) -> {
+            bots.remove(botUserId);
+            return bots.isEmpty() ? null : bots;
+        });
+    }
+
+    public Map<String, String> botsIn(String roomId) {
+        return botsByRoom.getOrDefault(roomId, Map.of());
+    }
+
+    public void removeRoom(String roomId) {
+        botsByRoom.remove(roomId);
+        plannedTurn.remove(roomId);
+    }
+
+    public boolean isBot(String roomId, String userId) {
+        return userId != null && botsIn(roomId).containsKey(userId);
+    }
+
+    /* =========================
+       턴 변경 알림 (방 샤드에서 호출)
+    ========================= */
+    public void onTurn(String roomId, WordChainState state) {
+        String botUserId = state.getTurnUserId();
+        if (!isBot(roomId, botUserId)) return;
+
+        long turnStartAt = state.getTurnStartAt();
+        Long planned = plannedTurn.put(roomId, turnStartAt);
+        if (planned != null && planned == turnStartAt) return;
+
+        long thinkMs = thinkMsMin + ThreadLocalRandom.current().nextLong(Math.max(1, thinkMsMax - thinkMsMin));
+        // 시작 전 대기(3초)가 남아 있으면 그 뒤부터 생각
+        long delayMs = Math.max(0, turnStartAt - System.currentTimeMillis()) + thinkMs;
+
+        roomClock.schedule(roomId, delayMs, () -> play(roomId, state, botUserId, turnStartAt));
+    }
+
+    private void play(String roomId, WordChainState state, String botUserId, long turnStartAt) {
+        // 그 사이 턴이 넘어갔거나 게임이 끝났으면 무시
+        if (!state.isStarted() || state.isFinished()) return;
+        if (!botUserId.equals(state.getTurnUserId()) || state.getTurnStartAt() != turnStartAt) return;
+
+        String nickname = botsIn(roomId).get(botUserId);
+        if (nickname == null) return;
+
+        String current = state.getCurrentWord();
+        if (current == null || current.isEmpty()) return;
+
+        DictionarySnapshot dictionary = wordDictionaryIndex.snapshot();
+        Random random = ThreadLocalRandom.current();
+        char last = current.charAt(current.length() - 1);
+        int index = dictionary.rankedUnusedStartingWith(last, random, state.getUsedWordOrdinals(), topCandidates);
+
+        // 없으면 두음법칙 글자로 (력 → 역)
+        char variant = HangulInitialSound.variantOf(last);
+        if (index < 0 && variant != 0) {
+            index = dictionary.rankedUnusedStartingWith(variant, random, state.getUsedWordOrdinals(), topCandidates);
+        }
+
+        // 이어갈 단어가 없으면 시간 초과로 넘어가게 둠
+        if (index < 0) {
+            passes.increment();
+            return;
+        }
+
+        moves.increment();
+        submit(roomId, botUserId, nickname, dictionary.wordAt(index));
+    }
+
+    private void submit(String roomId, String botUserId, String nickname, String word) {
+        try {
+            byte[] payload = objectMapper.writeValueAsBytes(Map.of(
+                    "userId", botUserId,
+                    "nickname", nickname,
+                    "word", word
+            ));
+
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setDestination("/app/wordchain/" + roomId + "/submit");
+            accessor.setSessionId(SESSION_PREFIX + botUserId);
+            accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+            accessor.setLeaveMutable(true);
+
+            clientInboundChannel.send(MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+        } catch (Exception e) {
+            log.error("[Server] bot submit failed: room={} bot={}", roomId, botUserId, e);
+        }
+    }
+}
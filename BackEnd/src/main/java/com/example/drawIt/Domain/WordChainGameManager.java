@@ -1,29 +1,51 @@
 package com.example.drawIt.Domain;
 
-import com.example.drawIt.Entity.WordDictionary;
-import com.example.drawIt.Repository.WordDictionaryRepository;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
-import org.springframework.scheduling.annotation.Scheduled;
+import com.example.drawIt.DTO.SocketEvent;
+import com.example.drawIt.Socket.RoomMembershipEvent;
+import com.example.drawIt.Socket.SocketEventPublisher;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Component;
 
-import java.util.HashMap;
+import java.time.Instant;
+import java.util.BitSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
 
 @Component
 public class WordChainGameManager {
 
-    private final WordDictionaryRepository wordDictionaryRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    // dictionaryOrdinalOf 결과 (사전에 없는 단어)
+    public static final int NOT_IN_DICTIONARY = -1;
+
+    // 시작 단어 공개 후 첫 턴까지
+    private static final long START_DELAY_MS = 3000;
+
+    private final SocketEventPublisher eventPublisher;
+    private final TaskScheduler wordChainScheduler;
+    private final RoomExecutor roomExecutor;
+    private final WordDictionaryIndex wordDictionaryIndex;
+    private final WordChainBots wordChainBots;
 
     private final Map<String, WordChainState> games = new ConcurrentHashMap<>();
+    // 방마다 현재 턴의 마감 타이머 하나
+    private final Map<String, ScheduledFuture<?>> turnDeadlines = new ConcurrentHashMap<>();
     private final Random random = new Random();
 
-    public WordChainGameManager(WordDictionaryRepository wordDictionaryRepository,
-                                SimpMessagingTemplate messagingTemplate) {
-        this.wordDictionaryRepository = wordDictionaryRepository;
-        this.messagingTemplate = messagingTemplate;
+    public WordChainGameManager(SocketEventPublisher eventPublisher,
+                                @Qualifier("wordChainScheduler") TaskScheduler wordChainScheduler,
+                                RoomExecutor roomExecutor,
+                                WordDictionaryIndex wordDictionaryIndex,
+                                WordChainBots wordChainBots) {
+        this.eventPublisher = eventPublisher;
+        this.wordChainScheduler = wordChainScheduler;
+        this.roomExecutor = roomExecutor;
+        this.wordDictionaryIndex = wordDictionaryIndex;
+        this.wordChainBots = wordChainBots;
     }
 
     public WordChainState getOrCreate(String roomId) {
@@ -40,60 +62,204 @@ public class WordChainGameManager {
     }
 
     public void remove(String roomId) {
+        cancelTurnDeadline(roomId);
         games.remove(roomId);
     }
 
     /* =========================
-       시작 단어 선택
+       플레이어 목록 갱신 (LobbyUserStore 인원 변경 이벤트)
+       - 제출 / 동기화 경로에서는 목록을 다시 만들지 않음
+       - 방 샤드에서 반영 → 제출 검증 도중 턴 순서가 바뀌지 않음
+    ========================= */
+    @EventListener
+    public void onRoomMembership(RoomMembershipEvent event) {
+        String roomId = event.roomId();
+        if (!games.containsKey(roomId)) return;
+
+        roomExecutor.execute(roomId, () -> {
+            WordChainState state = games.get(roomId);
+            if (state == null) return;
+
+            switch (event.type()) {
+                case JOINED -> state.addPlayer(event.userId(), event.nickname());
+                case RENAMED -> state.renamePlayer(event.userId(), event.nickname());
+                case LEFT -> {
+                    boolean turnMoved = state.removePlayer(event.userId());
+                    // 턴 유저가 나감 → 다음 유저 턴으로 바로 시작
+                    if (turnMoved && state.isStarted()) {
+                        armTurnDeadline(roomId);
+                        long version = state.nextVersion();
+                        eventPublisher.send(
+                                "/topic/wordchain/" + roomId,
+                                SocketEvent.WordChainTurn.of(version, state, "USER_LEFT")
+                        );
+                    }
+                }
+            }
+        });
+    }
+
+    /* =========================
+       게임 진행 (방 샤드에서 호출)
+       - 이벤트 순번은 상태를 바꾸는 여기서만 올림, 올린 값을 이벤트에 그대로 담음
+    ========================= */
+    public void startGame(String roomId, WordChainState state, String startWord,
+                          List<WordChainState.UserSnapshot> users) {
+        state.startWithDelay(startWord, users, START_DELAY_MS);
+        state.nextVersion();
+        markUsed(state, startWord);
+        armTurnDeadline(roomId);
+    }
+
+    // 정답 처리 (state.submit 통과 후): 점수 / 제한시간 감소 / 다음 턴, 새 순번 반환
+    public long acceptAnswer(String roomId, WordChainState state, String userId) {
+        state.addScore(userId, 10);
+        state.decreaseTurnLimit();
+        state.onNextTurn();
+        armTurnDeadline(roomId);
+        return state.nextVersion();
+    }
+
+    /* =========================
+       턴 마감 타이머
+       - 시작 / 턴 변경 / 제한시간 감소 / 턴 유저 이탈 시 다시 예약
+       - 이전 예약은 취소되므로 진행 중인 턴이 없으면 비용 없음
+    ========================= */
+    public void armTurnDeadline(String roomId) {
+        WordChainState state = games.get(roomId);
+        if (state == null || !state.isStarted()) {
+            cancelTurnDeadline(roomId);
+            return;
+        }
+
+        long deadline = state.getTurnDeadline();
+        ScheduledFuture<?> next = wordChainScheduler.schedule(
+                () -> onTurnDeadline(roomId, deadline),
+                Instant.ofEpochMilli(deadline)
+        );
+
+        ScheduledFuture<?> previous = turnDeadlines.put(roomId, next);
+        if (previous != null) {
+            previous.cancel(false);
+        }
+
+        // 봇 차례면 제출 예약
+        wordChainBots.onTurn(roomId, state);
+    }
+
+    public void cancelTurnDeadline(String roomId) {
+        ScheduledFuture<?> previous = turnDeadlines.remove(roomId);
+        if (previous != null) {
+            previous.cancel(false);
+        }
+    }
+
+    // 스케줄러 스레드에서는 판정하지 않고 방 샤드로 넘김 (제출 / 이탈 처리와 같은 스레드)
+    private void onTurnDeadline(String roomId, long deadline) {
+        roomExecutor.execute(roomId, () -> {
+            WordChainState state = games.get(roomId);
+            if (state == null || !state.isStarted()) return;
+
+            long current = state.getTurnDeadline();
+            if (current != deadline) {
+                // 예약 없이 턴 시작 시각이 바뀐 경우(플레이어 동기화 등) 새 마감으로 재예약
+                if (current > System.currentTimeMillis()) {
+                    armTurnDeadline(roomId);
+                    return;
+                }
+            }
+            handleTimeOver(roomId, state);
+        });
+    }
+
+    /*
+        메모리 사전 적재 완료 여부
+        - 적재 전에는 사용 단어를 ordinal 로 추적할 수 없으므로 게임을 시작하지 않음 (WAIT)
+    */
+    public boolean dictionaryReady() {
+        return wordDictionaryIndex.loaded();
+    }
+
+    /* =========================
+       시작 단어 선택 (새 게임이므로 사용 여부 무관)
     ========================= */
     public String pickFirstWord() {
         String[] chars = {"가","나","다","라","마","바","사","아","자","차","카","타","파","하"};
-        String firstChar = chars[random.nextInt(chars.length)];
+        char first = chars[random.nextInt(chars.length)].charAt(0);
 
-        WordDictionary word = pickReusableWord(firstChar);
+        DictionarySnapshot dictionary = wordDictionaryIndex.snapshot();
+        int index = dictionary.randomStartingWith(first, random);
 
-        if (word == null) {
+        if (index < 0) {
             throw new IllegalStateException("시작 단어를 찾을 수 없습니다.");
         }
 
-        word.markUsed();
-        wordDictionaryRepository.save(word);
-
-        return word.getWord();
+        return dictionary.wordAt(index);
     }
 
     /* =========================
-       다음 단어 선택
+       다음 단어 선택 (이번 게임에서 나온 단어 제외)
+       - 끝 글자 / 두음법칙 글자 모두에서 안 쓴 단어를 먼저 찾고,
+         둘 다 다 썼을 때만 중복 허용 (예전 used 플래그 초기화와 같은 동작, 방 단위)
     ========================= */
-    public String pickNextWord(String lastChar) {
-        WordDictionary word = pickReusableWord(lastChar);
+    public String pickNextWord(WordChainState state, String lastChar) {
+        if (lastChar == null || lastChar.isEmpty()) return null;
 
-        if (word == null) {
-            return null; // 더 이상 이어갈 단어 없음
-        }
+        DictionarySnapshot dictionary = wordDictionaryIndex.snapshot();
+        BitSet used = state.getUsedWordOrdinals();
+        char last = lastChar.charAt(0);
+        char variant = HangulInitialSound.variantOf(last);
 
-        word.markUsed();
-        wordDictionaryRepository.save(word);
+        int index = dictionary.randomUnusedStartingWith(last, random, used);
+        if (index < 0 && variant != 0) {
+            index = dictionary.randomUnusedStartingWith(variant, random, used);
+        }
+        if (index < 0) {
+            index = dictionary.randomStartingWith(last, random);
+        }
+        if (index < 0 && variant != 0) {
+            index = dictionary.randomStartingWith(variant, random);
+        }
+        if (index < 0) return null; // 더 이상 이어갈 단어 없음
 
-        return word.getWord();
+        used.set(dictionary.ordinalAt(index));
+        return dictionary.wordAt(index);
     }
 
-    private WordDictionary pickReusableWord(String firstChar) {
-        WordDictionary word = wordDictionaryRepository.findRandomByFirstChar(firstChar).orElse(null);
-        if (word != null) return word;
+    /*
+        이번 게임에서 나온 단어로 표시 (시작 단어 / 제출 단어)
+        - 방 샤드에서 호출, DB 는 건드리지 않음
+    */
+    public void markUsed(WordChainState state, String word) {
+        int ordinal = dictionaryOrdinalOf(word);
+        if (ordinal >= 0) {
+            state.getUsedWordOrdinals().set(ordinal);
+        }
+    }
 
-        // 모든 단어가 소진된 경우 used 플래그를 초기화하고 재시도
-        wordDictionaryRepository.resetAllUsedFlags();
-        word = wordDictionaryRepository.findRandomByFirstChar(firstChar).orElse(null);
-        if (word != null) return word;
+    // 해당 글자(또는 두음법칙 글자)로 시작하는 단어가 하나라도 있는지 (메모리 사전 기준)
+    public boolean canContinueWith(String lastChar) {
+        if (lastChar == null || lastChar.isEmpty()) return false;
+        if (!wordDictionaryIndex.loaded()) return true;
 
-        // used 상태와 무관하게라도 단어가 있으면 시작 가능하도록 마지막 fallback
-        return wordDictionaryRepository.findAnyRandomByFirstChar(firstChar).orElse(null);
+        DictionarySnapshot dictionary = wordDictionaryIndex.snapshot();
+        char last = lastChar.charAt(0);
+        char variant = HangulInitialSound.variantOf(last);
+        return dictionary.countStartingWith(last) > 0
+                || (variant != 0 && dictionary.countStartingWith(variant) > 0);
     }
 
-    public boolean existsInDictionary(String word) {
-        if (word == null || word.isBlank()) return false;
-        return wordDictionaryRepository.existsByWord(word);
+    /*
+        사전 단어의 ordinal (사용 여부 BitSet 인덱스)
+        - 없는 단어면 NOT_IN_DICTIONARY
+        - 적재 전에는 게임이 시작되지 않으므로(dictionaryReady) 메모리 사전만 봄
+    */
+    public int dictionaryOrdinalOf(String word) {
+        if (word == null || word.isBlank()) return NOT_IN_DICTIONARY;
+
+        DictionarySnapshot dictionary = wordDictionaryIndex.snapshot();
+        int index = dictionary.indexOf(word);
+        return index < 0 ? NOT_IN_DICTIONARY : dictionary.ordinalAt(index);
     }
 
     public boolean handleTimeOver(String roomId, WordChainState state) {
@@ -102,13 +268,13 @@ public class WordChainGameManager {
         // 타임아웃이 5번 누적되면 게임 종료
         if ((state.getTimeoutCount() + 1) >= WordChainState.MAX_TIMEOUT_COUNT) {
             state.finish();
-            messagingTemplate.convertAndSend(
+            cancelTurnDeadline(roomId);
+            eventPublisher.send(
                     "/topic/wordchain/" + roomId,
-                    Map.of(
-                            "type", "WORD_CHAIN_END",
-                            "reason", "TIME_OVER",
-                            "winners", state.getWinnerNicknames(),
-                            "timeoutCount", state.getTimeoutCount() + 1
+                    new SocketEvent.WordChainEnd(
+                            "TIME_OVER",
+                            state.getWinnerNicknames(),
+                            state.getTimeoutCount() + 1
                     )
             );
             return true;
@@ -116,40 +282,15 @@ public class WordChainGameManager {
 
         state.increaseTimeoutCount();
         state.onNextTurn();
+        armTurnDeadline(roomId);
+        long version = state.nextVersion();
 
-        Map<String, Object> payload = new HashMap<>();
-        payload.put("type", "WORD_CHAIN_STATE");
-        payload.put("started", state.isStarted());
-        payload.put("currentWord", state.getCurrentWord());
-        payload.put("playerIds", state.getPlayerIds());
-        payload.put("nickById", state.getNickById());
-        payload.put("turnUserId", state.getTurnUserId());
-        payload.put("round", state.getRound());
-        payload.put("turnStartAt", state.getTurnStartAt());
-        payload.put("turnTimeLimit", state.getTurnTimeLimitSeconds());
-        payload.put("lastAction", "TIME_OVER");
-        payload.put("message", "시간 초과! 다음 턴으로 넘어갑니다.");
-        payload.put("scoreByUserId", state.getScoreByUserId());
-        payload.put("timeoutCount", state.getTimeoutCount());
-        messagingTemplate.convertAndSend("/topic/wordchain/" + roomId, payload);
+        // 바뀐 것은 턴 / 타임아웃 횟수뿐
+        eventPublisher.send(
+                "/topic/wordchain/" + roomId,
+                SocketEvent.WordChainTimeout.of(version, state)
+        );
 
         return false;
     }
-
-    @Scheduled(fixedRate = 500)
-    public void checkTimeOver() {
-
-        long now = System.currentTimeMillis();
-
-        for (Map.Entry<String, WordChainState> entry : games.entrySet()) {
-            String roomId = entry.getKey();
-            WordChainState state = entry.getValue();
-
-            if (!state.isStarted()) continue;
-
-            if (state.isTimeOver(now)) {
-                handleTimeOver(roomId, state);
-            }
-        }
-    }
 }
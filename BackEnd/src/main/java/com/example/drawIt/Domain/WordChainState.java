@@ -19,7 +19,8 @@ public class WordChainState {
     private int currentTurnIndex = 0;
     private String turnUserId;
 
-    private Set<String> usedWords = new HashSet<>();
+    // 이번 게임에서 나온 단어의 사전 ordinal (DictionarySnapshot.ordinalAt, 방마다 따로, DB 에는 기록하지 않음)
+    private final BitSet usedWordOrdinals = new BitSet();
 
     private int round = 0;
     private int timeoutCount = 0;
@@ -27,6 +28,9 @@ public class WordChainState {
 
     private double turnLimitSec = 15;
 
+    // 방으로 나간 상태 변경 이벤트 순번 (클라이언트는 빈 번호가 보이면 /sync 로 전체 상태 요청)
+    private long version = 0L;
+
     // 최소 제한 시간
     private static final double MIN_TURN_LIMIT = 5.0;
 
@@ -52,7 +56,7 @@ public class WordChainState {
         finished = false;
 
         currentWord = startWord;
-        usedWords.clear();
+        usedWordOrdinals.clear();
         playerIds.clear();
         nickById.clear();
         scoreByUserId.clear();
@@ -72,38 +76,67 @@ public class WordChainState {
     }
 
     /* =========================
-       플레이어 동기화
+       이벤트 순번 증가 (WordChainGameManager 가 상태를 바꿀 때만 호출)
     ========================= */
-    public void syncPlayers(List<UserSnapshot> users) {
-        playerIds.clear();
-        nickById.clear();
+    long nextVersion() {
+        return ++version;
+    }
 
-        for (UserSnapshot u : users) {
-            playerIds.add(u.userId);
-            nickById.put(u.userId, u.nickname);
-            scoreByUserId.putIfAbsent(u.userId, 0); // ⭐ 중간 입장 대응
+    /* =========================
+       플레이어 변경 (방 인원 변경 이벤트, 방 샤드에서 호출)
+    ========================= */
+    public void addPlayer(String userId, String nickname) {
+        if (!playerIds.contains(userId)) {
+            playerIds.add(userId); // 턴 순서 맨 뒤
         }
+        nickById.put(userId, nickname);
+        scoreByUserId.putIfAbsent(userId, 0); // ⭐ 중간 입장 대응
+    }
 
-        if (!playerIds.contains(turnUserId) && !playerIds.isEmpty()) {
-            currentTurnIndex = 0;
-            turnUserId = playerIds.get(0);
-            turnStartAt = System.currentTimeMillis();
+    public void renamePlayer(String userId, String nickname) {
+        if (nickById.containsKey(userId)) {
+            nickById.put(userId, nickname);
         }
     }
 
+    /*
+        플레이어 제거 (점수는 남겨 둠)
+        - 턴 유저가 나갔으면 같은 자리(다음 순서) 유저에게 턴을 넘기고 true
+    */
+    public boolean removePlayer(String userId) {
+        int index = playerIds.indexOf(userId);
+        if (index < 0) return false;
+
+        playerIds.remove(index);
+        nickById.remove(userId);
+
+        if (index < currentTurnIndex) {
+            currentTurnIndex--;
+            return false;
+        }
+        if (index > currentTurnIndex || playerIds.isEmpty()) return false;
+
+        currentTurnIndex %= playerIds.size();
+        turnUserId = playerIds.get(currentTurnIndex);
+        turnStartAt = System.currentTimeMillis();
+        return true;
+    }
+
     /* =========================
        단어 제출
+       - ordinal: 사전 ordinal (WordChainGameManager.dictionaryOrdinalOf), 음수(사전에 없음)면 거절
+       - 끝 글자와 같거나 두음법칙 글자로 시작하면 통과 (표 조회, 할당 없음)
     ========================= */
-    public boolean submit(String userId, String word) {
+    public boolean submit(String userId, String word, int ordinal) {
         if (!started || finished) return false;
         if (!userId.equals(turnUserId)) return false;
-        if (usedWords.contains(word)) return false;
+        if (ordinal < 0 || usedWordOrdinals.get(ordinal)) return false;
 
         char last = currentWord.charAt(currentWord.length() - 1);
         char first = word.charAt(0);
-        if (last != first) return false;
+        if (!HangulInitialSound.canFollow(last, first)) return false;
 
-        usedWords.add(word);
+        usedWordOrdinals.set(ordinal);
         currentWord = word;
 
         return true;
@@ -146,7 +179,7 @@ public class WordChainState {
         finished = false;
 
         currentWord = startWord;
-        usedWords.clear();
+        usedWordOrdinals.clear();
         playerIds.clear();
         nickById.clear();
         scoreByUserId.clear();
@@ -174,7 +207,12 @@ public class WordChainState {
 
     public boolean isTimeOver(long now) {
         if (!started) return false;
-        return now - turnStartAt >= (long) (turnLimitSec * 1000);
+        return now >= getTurnDeadline();
+    }
+
+    // 현재 턴 마감 시각(ms)
+    public long getTurnDeadline() {
+        return turnStartAt + (long) (turnLimitSec * 1000);
     }
 
     /* =========================
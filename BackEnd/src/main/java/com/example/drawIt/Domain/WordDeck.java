@@ -0,0 +1,62 @@
+package com.example.drawIt.Domain;
+
+import java.util.Random;
+
+/*
+    게임별 제시어 덱 (카드 섞기 방식)
+    - 모드 단어 배열의 인덱스 int[] 하나 + 커서
+    - 한 번 뽑은 단어는 덱을 다 돌 때까지 다시 나오지 않음 (usedWords 집합 대신)
+    - 섞기는 뽑을 때마다 한 칸씩 (Fisher–Yates 를 나눠서): 게임은 MAX_ROUND 장만 쓰므로
+      풀 전체를 미리 섞지 않음 → 새 덱 비용은 배열 채우기뿐
+    - 다 쓰면 같은 배열로 다음 바퀴, 직전 단어(맨 끝 칸)는 새 바퀴 첫 장에서 제외
+    - source: 덱을 만든 단어 배열 (모드 변경 / 단어 교체 시 새 덱 필요 여부 판단)
+    - 방 샤드에서만 사용 (동기화 없음)
+*/
+public final class WordDeck {
+
+    private final Object source;
+    private final int[] order;
+    private int cursor;
+    // 한 바퀴 이상 돌았으면 true (맨 끝 칸 = 직전 단어)
+    private boolean wrapped;
+
+    private WordDeck(Object source, int size) {
+        this.source = source;
+        this.order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+    }
+
+    static WordDeck of(Object source, int size) {
+        return new WordDeck(source, size);
+    }
+
+    boolean isFor(Object source) {
+        return this.source == source;
+    }
+
+    // 다음 단어의 인덱스 (O(1), 할당 없음)
+    int next(Random random) {
+        int n = order.length;
+        if (cursor == n) {
+            cursor = 0;
+            wrapped = true;
+        }
+
+        // 아직 안 뽑은 [cursor, n) 중 하나를 cursor 자리로, 새 바퀴 첫 장은 직전 단어(n - 1) 제외
+        int bound = (cursor == 0 && wrapped && n > 1) ? n - 1 : n;
+        swap(cursor, cursor + random.nextInt(bound - cursor));
+        return order[cursor++];
+    }
+
+    int size() {
+        return order.length;
+    }
+
+    private void swap(int i, int j) {
+        int tmp = order[i];
+        order[i] = order[j];
+        order[j] = tmp;
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.drawIt.Domain;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Map;
+
+/*
+    메모리 단어 사전 (word_dictionary)
+    - 기동 후 한 번 전체 적재, 이후 주기적으로 새로 추가된 행(id > maxId)만 더함
+    - 행 수가 스냅샷과 어긋나면(삭제 등) 전체 다시 적재
+    - 적재 전에는 loaded() == false → 끝말잇기 시작을 WAIT 로 거절 (사용 단어 추적이 사전 ordinal 기준이므로)
+*/
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WordDictionaryIndex {
+
+    private static final String SELECT_SINCE_SQL =
+            "select id, word from word_dictionary where id > ? order by id";
+    private static final String STATS_SQL =
+            "select count(*) as cnt, coalesce(max(id), 0) as max_id from word_dictionary";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TaskScheduler taskScheduler;
+    private final MeterRegistry meterRegistry;
+
+    private volatile DictionarySnapshot snapshot = DictionarySnapshot.EMPTY;
+    private volatile boolean loaded;
+    // DB 행 수 기준 (빈 단어 / 중복은 스냅샷에서 빠질 수 있음)
+    private long rowCount;
+    private long maxLoadedId;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        Gauge.builder("drawit.words.index.size", this, i -> i.snapshot.size())
+                .description("Words in the in-memory dictionary")
+                .register(meterRegistry);
+        Gauge.builder("drawit.words.index.memory", this, i -> i.snapshot.memoryBytes())
+                .description("Approximate heap used by the in-memory dictionary")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+
+        // 기동을 막지 않도록 백그라운드에서 적재
+        taskScheduler.schedule(this::reload, Instant.now());
+    }
+
+    public DictionarySnapshot snapshot() {
+        return snapshot;
+    }
+
+    public boolean loaded() {
+        return loaded;
+    }
+
+    public boolean contains(String word) {
+        return snapshot.contains(word);
+    }
+
+    /* =========================
+       전체 적재
+    ========================= */
+    public synchronized void reload() {
+        long started = System.currentTimeMillis();
+        Rows rows = fetchSince(0);
+        DictionarySnapshot fresh = DictionarySnapshot.build(rows.ids, rows.words, rows.count);
+        // 진행 중인 게임의 사용 표시(ordinal)가 어긋나지 않게 이전 번호를 이어받음
+        snapshot = loaded ? fresh.withOrdinalsOf(snapshot) : fresh;
+        rowCount = rows.seen;
+        maxLoadedId = rows.maxId;
+        loaded = true;
+
+        log.info("[Server] word dictionary loaded: {} words, {} KiB, {} ms",
+                snapshot.size(), snapshot.memoryBytes() / 1024, System.currentTimeMillis() - started);
+    }
+
+    /* =========================
+       증분 반영
+    ========================= */
+    @Scheduled(fixedDelayString = "${drawit.words.refresh-interval-ms:60000}",
+            initialDelayString = "${drawit.words.refresh-interval-ms:60000}")
+    public synchronized void refresh() {
+        if (!loaded) return;
+
+        try {
+            Map<String, Object> stats = jdbcTemplate.queryForMap(STATS_SQL);
+            long count = ((Number) stats.get("cnt")).longValue();
+            long maxId = ((Number) stats.get("max_id")).longValue();
+
+            if (maxId <= maxLoadedId) {
+                if (count != rowCount) reload();
+                return;
+            }
+
+            DictionarySnapshot current = snapshot;
+            Rows rows = fetchSince(maxLoadedId);
+            if (rowCount + rows.seen != count) {
+                reload();
+                return;
+            }
+            snapshot = current.plus(rows.ids, rows.words, rows.count);
+            rowCount = count;
+            maxLoadedId = rows.maxId;
+        } catch (Exception e) {
+            log.error("[Server] word dictionary refresh failed", e);
+        }
+    }
+
+    private Rows fetchSince(long afterId) {
+        Rows rows = new Rows();
+        jdbcTemplate.query(SELECT_SINCE_SQL, rs -> {
+            rows.add(rs.getLong(1), rs.getString(2));
+        }, afterId);
+        return rows;
+    }
+
+    // 적재용 임시 버퍼 (박싱 없이 배열로)
+    private static final class Rows {
+        long[] ids = new long[1024];
+        String[] words = new String[1024];
+        int count;
+        long seen;
+        long maxId;
+
+        void add(long id, String word) {
+            seen++;
+            maxId = Math.max(maxId, id);
+            if (word == null || word.isBlank()) return;
+            if (count == ids.length) {
+                ids = Arrays.copyOf(ids, count * 2);
+                words = Arrays.copyOf(words, count * 2);
+            }
+            ids[count] = id;
+            words[count] = word.trim();
+            count++;
+        }
+    }
+}
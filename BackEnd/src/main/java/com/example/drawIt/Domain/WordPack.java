@@ -0,0 +1,71 @@
+package com.example.drawIt.Domain;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/*
+    카테고리 제시어 팩 (불변)
+    - 중복 제거 + intern 된 String[] 하나
+    - 앞쪽 unique 개: 먼저 적재된 팩에 없는 단어, 뒤쪽: 다른 팩과 겹치는 단어
+      → RANDOM 합집합 뷰는 팩마다 앞쪽 unique 개만 이어 붙이면 복사 없이 중복도 없음
+*/
+public final class WordPack implements WordPool {
+
+    private final String name;
+    private final String[] words;
+    private final int unique;
+
+    private WordPack(String name, String[] words, int unique) {
+        this.name = name;
+        this.words = words;
+        this.unique = unique;
+    }
+
+    /*
+        words: 팩 안에서 중복 제거된 단어
+        seen: 앞서 적재된 팩들의 단어 (이 팩의 단어가 추가됨)
+    */
+    static WordPack of(String name, List<String> words, Set<String> seen) {
+        List<String> fresh = new ArrayList<>(words.size());
+        List<String> shared = new ArrayList<>();
+        for (String word : words) {
+            String interned = word.intern();
+            if (seen.add(interned)) fresh.add(interned);
+            else shared.add(interned);
+        }
+
+        String[] array = new String[fresh.size() + shared.size()];
+        for (int i = 0; i < fresh.size(); i++) array[i] = fresh.get(i);
+        for (int i = 0; i < shared.size(); i++) array[fresh.size() + i] = shared.get(i);
+        return new WordPack(name, array, fresh.size());
+    }
+
+    @Override
+    public int size() {
+        return words.length;
+    }
+
+    @Override
+    public String get(int index) {
+        return words[index];
+    }
+
+    public String name() {
+        return name;
+    }
+
+    // 다른 팩과 겹치지 않는 단어 수 (합집합 뷰에서 쓰는 구간)
+    public int unique() {
+        return unique;
+    }
+
+    // 배열 + 문자열 본체 기준 대략적인 사용량 (intern 으로 팩 간 공유되는 문자열도 각각 셈)
+    public long memoryBytes() {
+        long bytes = 16 + (long) words.length * 4;
+        for (String word : words) {
+            bytes += 24 + 16 + (long) word.length() * 2;
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,239 @@
+package com.example.drawIt.Domain;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/*
+    그림 모드 제시어 팩
+    - location 아래 {MODE}.txt 파일(UTF-8, 한 줄에 한 단어, # 주석)을 모드별 팩으로 적재
+      기본은 classpath:wordpacks/, 운영에서는 file:/경로/ 로 바꿔서 재배포 없이 교체
+    - RANDOM 은 모든 카테고리 팩 + RANDOM.txt(전용 단어)를 이어 붙인 뷰 (복사 없음)
+    - reload: 새 팩을 다 만든 뒤 참조 하나만 교체 (copy-on-write)
+      진행 중인 게임은 다음 제시어부터 새 팩으로 덱을 다시 섞음 (WordDeck.isFor)
+    - 적재 실패 / 빈 결과면 기존 팩 유지
+*/
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WordPacks {
+
+    private static final String RANDOM = GameMode.RANDOM.name();
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${drawit.words.packs.location:classpath:wordpacks/}")
+    private String location;
+
+    private volatile Loaded loaded = new Loaded(Map.of(), List.of(), 0, 0);
+
+    private Timer loadTimer;
+
+    // 한 번의 적재 결과 (불변)
+    private record Loaded(Map<String, WordPool> pools, List<WordPack> packs, long loadedAt, long loadMs) {}
+
+    @PostConstruct
+    void init() {
+        loadTimer = Timer.builder("drawit.words.packs.load")
+                .description("Time to load and index draw-mode word packs")
+                .register(meterRegistry);
+        reload();
+    }
+
+    /* =========================
+       모드별 풀 (없는 모드는 RANDOM)
+    ========================= */
+    public WordPool pool(String mode) {
+        Map<String, WordPool> pools = loaded.pools;
+        WordPool pool = mode != null ? pools.get(mode) : null;
+        return pool != null ? pool : pools.get(RANDOM);
+    }
+
+    /* =========================
+       다시 적재
+    ========================= */
+    public synchronized Map<String, Object> reload() {
+        long started = System.nanoTime();
+        try {
+            Map<String, List<String>> wordsByPack = read(location);
+            if (wordsByPack.isEmpty()) {
+                log.warn("[Server] word packs not found: {}", location);
+                return stats();
+            }
+
+            Loaded next = index(wordsByPack, started);
+            loaded = next;
+            registerGauges(next.packs);
+            loadTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+
+            log.info("[Server] word packs loaded: {} packs, {} words, {} ms",
+                    next.packs.size(), next.pools.get(RANDOM).size(), next.loadMs);
+        } catch (IOException e) {
+            log.error("[Server] word packs reload failed, keeping current packs: {}", location, e);
+        }
+        return stats();
+    }
+
+    /*
+        현재 팩 정보 (팩별 단어 수 / 메모리, 적재 시각 / 소요 시간)
+    */
+    public Map<String, Object> stats() {
+        Loaded current = loaded;
+
+        List<Map<String, Object>> packs = new ArrayList<>();
+        for (WordPack pack : current.packs) {
+            packs.add(Map.of(
+                    "name", pack.name(),
+                    "words", pack.size(),
+                    "unique", pack.unique(),
+                    "memoryBytes", pack.memoryBytes()
+            ));
+        }
+
+        WordPool random = current.pools.get(RANDOM);
+        return Map.of(
+                "location", location,
+                "packs", packs,
+                "randomWords", random != null ? random.size() : 0,
+                "loadedAt", current.loadedAt,
+                "loadMs", current.loadMs
+        );
+    }
+
+    private Map<String, List<String>> read(String location) throws IOException {
+        String base = location.endsWith("/") ? location : location + "/";
+        Resource[] resources = new PathMatchingResourcePatternResolver().getResources(base + "*.txt");
+
+        Map<String, List<String>> wordsByPack = new TreeMap<>();
+        for (Resource resource : resources) {
+            String filename = resource.getFilename();
+            if (filename == null) continue;
+
+            String name = filename.substring(0, filename.length() - ".txt".length()).toUpperCase();
+            if (!isDrawMode(name)) {
+                log.warn("[Server] word pack skipped (unknown mode): {}", filename);
+                continue;
+            }
+            wordsByPack.put(name, readWords(resource));
+        }
+        return wordsByPack;
+    }
+
+    private static List<String> readWords(Resource resource) throws IOException {
+        Set<String> words = new LinkedHashSet<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String word = Normalizer.normalize(line.replace("\uFEFF", "").trim(), Normalizer.Form.NFC);
+                if (word.isEmpty() || word.startsWith("#")) continue;
+                words.add(word);
+            }
+        }
+        return new ArrayList<>(words);
+    }
+
+    /*
+        팩 배열 생성 + RANDOM 뷰 구성
+        - 카테고리 팩을 이름순으로 먼저, RANDOM 전용 팩을 마지막에 → 전용 단어 중 카테고리와 겹치는 것은 뷰에서 빠짐
+    */
+    private static Loaded index(Map<String, List<String>> wordsByPack, long started) {
+        Set<String> seen = new HashSet<>();
+        Map<String, WordPool> pools = new HashMap<>();
+        List<WordPack> packs = new ArrayList<>();
+
+        wordsByPack.forEach((name, words) -> {
+            if (name.equals(RANDOM)) return;
+            WordPack pack = WordPack.of(name, words, seen);
+            packs.add(pack);
+            pools.put(name, pack);
+        });
+        List<String> randomOnly = wordsByPack.get(RANDOM);
+        if (randomOnly != null) {
+            packs.add(WordPack.of(RANDOM, randomOnly, seen));
+        }
+
+        pools.put(RANDOM, new UnionPool(packs));
+
+        long loadMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        return new Loaded(Map.copyOf(pools), List.copyOf(packs), System.currentTimeMillis(), loadMs);
+    }
+
+    private static boolean isDrawMode(String name) {
+        for (GameMode mode : GameMode.values()) {
+            if (mode != GameMode.WORD_CHAIN && mode.name().equals(name)) return true;
+        }
+        return false;
+    }
+
+    // 팩 이름마다 한 번 등록, 값은 항상 현재 적재 결과 기준
+    private void registerGauges(List<WordPack> packs) {
+        for (WordPack pack : packs) {
+            String name = pack.name();
+            Gauge.builder("drawit.words.packs.memory", this, p -> p.memoryOf(name))
+                    .description("Approximate heap used by a draw-mode word pack")
+                    .baseUnit("bytes")
+                    .tag("pack", name)
+                    .register(meterRegistry);
+        }
+    }
+
+    private double memoryOf(String name) {
+        for (WordPack pack : loaded.packs) {
+            if (pack.name().equals(name)) return pack.memoryBytes();
+        }
+        return 0;
+    }
+
+    /*
+        여러 팩의 앞쪽 unique 구간을 이어 붙인 뷰
+        - get 은 팩 수(모드 수 정도)만큼만 훑음
+    */
+    private static final class UnionPool implements WordPool {
+
+        private final WordPack[] packs;
+        private final int[] ends; // i 번째 팩 구간의 끝(제외), 누적
+        private final int size;
+
+        UnionPool(List<WordPack> packs) {
+            this.packs = packs.toArray(new WordPack[0]);
+            this.ends = new int[this.packs.length];
+            int total = 0;
+            for (int i = 0; i < this.packs.length; i++) {
+                total += this.packs[i].unique();
+                ends[i] = total;
+            }
+            this.size = total;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public String get(int index) {
+            int start = 0;
+            for (int i = 0; i < packs.length; i++) {
+                if (index < ends[i]) return packs[i].get(index - start);
+                start = ends[i];
+            }
+            throw new IndexOutOfBoundsException(index);
+        }
+    }
+}
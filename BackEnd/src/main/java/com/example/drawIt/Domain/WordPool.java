@@ -0,0 +1,13 @@
+package com.example.drawIt.Domain;
+
+/*
+    제시어 풀 (읽기 전용)
+    - 카테고리 팩(WordPack) 또는 여러 팩을 이어 붙인 RANDOM 합집합 뷰
+    - WordDeck 은 인덱스만 섞으므로 size / get 만 있으면 됨
+*/
+public interface WordPool {
+
+    int size();
+
+    String get(int index);
+}
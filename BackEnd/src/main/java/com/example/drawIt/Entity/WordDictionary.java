@@ -24,10 +24,7 @@ public class WordDictionary {
     @Column(name = "last_char", nullable = false, length = 1)
     private String lastChar;
 
+    // 예전 전역 사용 여부 (더 이상 갱신하지 않음, 게임별 사용 여부는 WordChainState.usedWordIds)
     @Column(nullable = false)
     private boolean used;
-
-    public void markUsed() {
-        this.used = true;
-    }
 }
@@ -0,0 +1,159 @@
+package com.example.drawIt.Service;
+
+import com.example.drawIt.Entity.Lobby;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/*
+    Lobby 조회 캐시 (LRU, 크기 제한)
+    - 소켓 핸들러마다 나가던 findById 를 메모리 조회로 대체
+    - 저장된 Lobby 는 영속성 컨텍스트와 분리된 복사본, 변경 시 새 복사본으로 교체
+      → 꺼내 간 객체는 읽기 전용으로만 사용
+    - 변경 훅: put(생성 / 수정) / update(방장 / 시작 상태) / invalidate(삭제 / 수정) / markStale(write-behind 커밋)
+    - 로딩 도중 변경이 있었으면(epoch 변경) 로딩 결과는 저장하지 않음
+*/
+@Component
+@RequiredArgsConstructor
+public class LobbyCache {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${drawit.lobby.cache.max-size:1000}")
+    private int maxSize;
+
+    // 아래 상태는 모두 this 로 보호
+    private Map<String, Lobby> entries;
+    private long epoch;
+
+    private Counter hits;
+    private Counter misses;
+    private Counter evictions;
+
+    @PostConstruct
+    void init() {
+        entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Lobby> eldest) {
+                if (size() > maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+
+        hits = meterRegistry.counter("drawit.lobby.cache", "result", "hit");
+        misses = meterRegistry.counter("drawit.lobby.cache", "result", "miss");
+        evictions = meterRegistry.counter("drawit.lobby.cache.evictions");
+        meterRegistry.gauge("drawit.lobby.cache.size", this, LobbyCache::size);
+    }
+
+    /* =========================
+       조회 (없으면 loader 로 읽어서 저장)
+    ========================= */
+    public Optional<Lobby> get(String lobbyId, Supplier<Optional<Lobby>> loader) {
+        if (lobbyId == null) return Optional.empty();
+
+        long loadEpoch;
+        synchronized (this) {
+            Lobby cached = entries.get(lobbyId);
+            if (cached != null) {
+                hits.increment();
+                return Optional.of(cached);
+            }
+            misses.increment();
+            loadEpoch = epoch;
+        }
+
+        // DB 조회는 락 밖에서
+        Optional<Lobby> loaded = loader.get().map(LobbyCache::copyOf);
+
+        loaded.ifPresent(lobby -> {
+            synchronized (this) {
+                if (epoch == loadEpoch) {
+                    entries.putIfAbsent(lobbyId, lobby);
+                }
+            }
+        });
+        return loaded;
+    }
+
+    /* =========================
+       변경 훅
+    ========================= */
+    public synchronized void put(Lobby lobby) {
+        epoch++;
+        entries.put(lobby.getId(), copyOf(lobby));
+    }
+
+    // 캐시에 있을 때만 새 복사본에 변경 적용
+    public synchronized void update(String lobbyId, Consumer<Lobby> change) {
+        epoch++;
+        Lobby cached = entries.get(lobbyId);
+        if (cached == null) return;
+
+        Lobby next = copyOf(cached);
+        change.accept(next);
+        entries.put(lobbyId, next);
+    }
+
+    /*
+        제거
+        - 트랜잭션 안이면 커밋 후 한 번 더 제거 (커밋 전 옛 값이 다시 적재되는 것 방지)
+    */
+    public void invalidate(String lobbyId) {
+        evict(lobbyId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(lobbyId);
+                }
+            });
+        }
+    }
+
+    /*
+        write-behind 커밋 완료 시 호출 (LobbyWriteBehind)
+        - 저장된 항목은 update 훅으로 이미 같은 값 → 그대로 둠
+        - 커밋 전에 시작한 로딩 결과만 저장되지 않게 epoch 만 올림
+    */
+    public synchronized void markStale() {
+        epoch++;
+    }
+
+    private synchronized void evict(String lobbyId) {
+        epoch++;
+        entries.remove(lobbyId);
+    }
+
+    private synchronized int size() {
+        return entries.size();
+    }
+
+    private static Lobby copyOf(Lobby lobby) {
+        return Lobby.builder()
+                .id(lobby.getId())
+                .name(lobby.getName())
+                .mode(lobby.getMode())
+                .password(lobby.getPassword())
+                .hostUserId(lobby.getHostUserId())
+                .hostNickname(lobby.getHostNickname())
+                .gameStarted(lobby.isGameStarted())
+                .createdAt(lobby.getCreatedAt())
+                .build();
+    }
+}
@@ -6,21 +6,29 @@ import com.example.drawIt.Domain.GameMode;
 import com.example.drawIt.Entity.Lobby;
 import com.example.drawIt.Handler.GlobalExceptionHandler.RoomAlreadyExistsException;
 import com.example.drawIt.Repository.LobbyRepository;
+import com.example.drawIt.Socket.LobbyDirectory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class LobbyService {
 
     private final LobbyRepository lobbyRepository;
+    private final LobbyDirectory lobbyDirectory;
+    private final LobbyWriteBehind lobbyWriteBehind;
+    private final LobbyCache lobbyCache;
 
     @Transactional
     public Lobby createLobby(CreateLobbyDTO dto) {
+        // 같은 id 의 이전 방 삭제가 아직 대기 중이면 먼저 반영 (별도 트랜잭션, 아래에서 롤백돼도 유지)
+        lobbyWriteBehind.flushRoom(dto.getId());
+
         if (lobbyRepository.existsByName(dto.getName())) {
             throw new RoomAlreadyExistsException("Room name already exists.");
         }
@@ -35,15 +43,40 @@ public class LobbyService {
         lobby.setGameStarted(false);
         lobby.setCreatedAt(LocalDateTime.now());
 
-        return lobbyRepository.save(lobby);
+        Lobby saved = lobbyRepository.save(lobby);
+        lobbyCache.put(saved);
+        lobbyDirectory.register(saved);
+        return saved;
     }
 
-    @Transactional(readOnly = true)
     public Lobby getLobby(String lobbyId) {
-        return lobbyRepository.findById(lobbyId)
+        return findLobby(lobbyId)
                 .orElseThrow(() -> new IllegalArgumentException("Lobby not found."));
     }
 
+    /*
+        캐시 우선 조회, 없으면 DB + 아직 반영되지 않은 방장 / 시작 상태 / 삭제
+        - 반환된 Lobby 는 캐시와 공유되므로 수정하지 말 것
+    */
+    public Optional<Lobby> findLobby(String lobbyId) {
+        return lobbyCache.get(lobbyId, () -> loadLobby(lobbyId));
+    }
+
+    /*
+        DB 행 + 미반영 변경
+        - 읽는 도중 write-behind 커밋이 끝나면 (커밋 전 행 + 이미 빠진 inFlight) 조합이 될 수 있음
+          → flushCount 가 바뀌었으면 다시 읽음
+    */
+    private Optional<Lobby> loadLobby(String lobbyId) {
+        while (true) {
+            long flushes = lobbyWriteBehind.flushCount();
+            Optional<Lobby> loaded = lobbyWriteBehind.overlay(lobbyRepository.findById(lobbyId));
+            if (lobbyWriteBehind.flushCount() == flushes) {
+                return loaded;
+            }
+        }
+    }
+
     @Transactional(readOnly = true)
     public List<Lobby> getAllRooms() {
         return lobbyRepository.findAll();
@@ -51,6 +84,9 @@ public class LobbyService {
 
     @Transactional
     public Lobby updateLobby(String lobbyId, UpdateLobbyDTO dto) {
+        // 대기 중인 방장 / 시작 상태를 먼저 반영해야 덮어쓰지 않음 (별도 트랜잭션)
+        lobbyWriteBehind.flushRoom(lobbyId);
+
         Lobby lobby = lobbyRepository.findById(lobbyId)
                 .orElseThrow(() -> new IllegalArgumentException("Lobby not found."));
 
@@ -62,23 +98,35 @@ public class LobbyService {
         }
 
         lobby.setPassword(dto.getPassword());
+        lobbyCache.invalidate(lobbyId);
+        lobbyDirectory.register(lobby);
         return lobby;
     }
 
-    @Transactional
+    // 실시간 경로: DB 반영은 LobbyWriteBehind 가 모아서 처리
     public void updateGameStatus(String lobbyId, boolean isStarted) {
-        Lobby lobby = lobbyRepository.findById(lobbyId)
-                .orElseThrow(() -> new IllegalArgumentException("Lobby not found."));
-
-        lobby.setGameStarted(isStarted);
-        lobbyRepository.save(lobby);
+        lobbyWriteBehind.markStarted(lobbyId, isStarted);
+        lobbyCache.update(lobbyId, lobby -> lobby.setGameStarted(isStarted));
+        lobbyDirectory.markStarted(lobbyId, isStarted);
     }
 
-    @Transactional
     public void markGameStarted(String lobbyId) {
-        Lobby lobby = lobbyRepository.findById(lobbyId)
-                .orElseThrow(() -> new IllegalArgumentException("Lobby not found."));
-        lobby.setGameStarted(true);
+        updateGameStatus(lobbyId, true);
+    }
+
+    public void updateHost(String lobbyId, String userId, String nickname) {
+        lobbyWriteBehind.updateHost(lobbyId, userId, nickname);
+        lobbyCache.update(lobbyId, lobby -> {
+            lobby.setHostUserId(userId);
+            lobby.setHostNickname(nickname);
+        });
+        lobbyDirectory.updateHost(lobbyId, nickname);
+    }
+
+    public void deleteLobby(String lobbyId) {
+        lobbyWriteBehind.delete(lobbyId);
+        lobbyCache.invalidate(lobbyId);
+        lobbyDirectory.remove(lobbyId);
     }
 
     private String normalizeMode(String rawMode) {
@@ -0,0 +1,359 @@
+package com.example.drawIt.Service;
+
+import com.example.drawIt.Entity.Lobby;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/*
+    Lobby 테이블 쓰기 지연(write-behind)
+    - 실시간 경로(방장 변경 / 게임 시작 / 방 삭제)는 메모리에만 기록하고 바로 반환
+    - 같은 방의 변경은 하나로 합쳐짐 (마지막 값만 기록, 삭제가 있으면 삭제만)
+    - 백그라운드 스레드가 flush-ms 마다 JDBC 배치로 한 번에 반영
+    - 대기 중인 방이 capacity 를 넘으면 호출 스레드에서 바로 기록 (무한정 쌓이지 않게)
+    - 아직 반영 안 된 변경은 overlay 로 조회 결과에 덧씌움
+    - 기록은 한 번에 한 배치만 (같은 방의 이전 / 이후 배치가 순서 바뀌어 커밋되지 않게)
+    - 배치는 항상 별도 트랜잭션(REQUIRES_NEW)으로 커밋
+      → 서비스 트랜잭션 안에서 flushRoom 해도 바깥 롤백에 휩쓸려 사라지지 않음
+    - 커밋이 끝난 순간부터 그 전에 읽은 행은 낡은 값 → flushCount 로 감지
+    - 종료 시 남은 변경 전부 반영
+*/
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LobbyWriteBehind {
+
+    private static final String UPDATE_HOST_SQL =
+            "update lobby set host_user_id = ?, host_nickname = ? where id = ?";
+    private static final String UPDATE_STARTED_SQL =
+            "update lobby set game_started = ? where id = ?";
+    private static final String DELETE_SQL =
+            "delete from lobby where id = ?";
+
+    // 계속 실패하는 변경은 이 횟수 이후 버림 (나머지 방까지 막히지 않게), 삭제는 버리지 않음
+    private static final int MAX_ATTEMPTS = 5;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+    private final LobbyCache lobbyCache;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${drawit.lobby.write-behind.flush-ms:100}")
+    private long flushMs;
+
+    @Value("${drawit.lobby.write-behind.capacity:10000}")
+    private int capacity;
+
+    private final Map<String, Pending> pending = new ConcurrentHashMap<>();
+    // 꺼내서 쓰는 중인 변경 (커밋 전까지 조회에 계속 반영)
+    private final Map<String, Pending> inFlight = new ConcurrentHashMap<>();
+    // 커밋된 배치 수 (inFlight 에서 빼기 전에 증가)
+    private final AtomicLong flushes = new AtomicLong();
+
+    private TransactionTemplate transactionTemplate;
+    private Thread writer;
+    private volatile boolean running;
+
+    private Timer lag;
+    private DistributionSummary batchSize;
+    private Counter failures;
+    private Counter overflow;
+    private Counter dropped;
+
+    // 방 하나의 미반영 변경 (null 이면 해당 컬럼 변경 없음)
+    private static final class Pending {
+        final long queuedAt = System.nanoTime();
+        String hostUserId;
+        String hostNickname;
+        Boolean gameStarted;
+        boolean deleted;
+        int attempts;
+
+        // 실패한 이전 배치를 다시 넣을 때: 새 값이 우선
+        void inheritFrom(Pending older) {
+            if (hostUserId == null) {
+                hostUserId = older.hostUserId;
+                hostNickname = older.hostNickname;
+            }
+            if (gameStarted == null) {
+                gameStarted = older.gameStarted;
+            }
+            deleted |= older.deleted;
+            attempts = older.attempts;
+        }
+    }
+
+    @PostConstruct
+    void start() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        lag = Timer.builder("drawit.lobby.writebehind.lag")
+                .description("Time from first queued lobby change to its database write")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        batchSize = DistributionSummary.builder("drawit.lobby.writebehind.batch")
+                .description("Rooms written per write-behind flush")
+                .register(meterRegistry);
+        failures = meterRegistry.counter("drawit.lobby.writebehind.failures");
+        overflow = meterRegistry.counter("drawit.lobby.writebehind.overflow");
+        dropped = meterRegistry.counter("drawit.lobby.writebehind.dropped");
+        meterRegistry.gauge("drawit.lobby.writebehind.pending", pending, Map::size);
+
+        running = true;
+        writer = new Thread(this::run, "lobby-write-behind");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        writer.interrupt();
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushAll();
+    }
+
+    /* =========================
+       변경 기록 (호출 스레드는 DB를 기다리지 않음)
+    ========================= */
+    public void updateHost(String roomId, String userId, String nickname) {
+        enqueue(roomId, p -> {
+            p.hostUserId = userId;
+            p.hostNickname = nickname;
+        });
+    }
+
+    public void markStarted(String roomId, boolean started) {
+        enqueue(roomId, p -> p.gameStarted = started);
+    }
+
+    public void delete(String roomId) {
+        enqueue(roomId, p -> p.deleted = true);
+    }
+
+    private void enqueue(String roomId, Consumer<Pending> change) {
+        if (roomId == null) return;
+
+        boolean full = pending.size() >= capacity && !pending.containsKey(roomId);
+
+        pending.compute(roomId, (k, p) -> {
+            if (p == null) p = new Pending();
+            synchronized (p) {
+                // 삭제 예약된 방에 대한 이후 변경은 의미 없음
+                if (!p.deleted) change.accept(p);
+            }
+            return p;
+        });
+
+        if (full) {
+            overflow.increment();
+            flushRoom(roomId);
+        }
+    }
+
+    /* =========================
+       조회 결과에 미반영 변경 덧씌우기
+       - 삭제 예약된 방은 없는 방으로 취급
+       - pending → inFlight 순서로 읽음: 넘기는 쪽은 inFlight 에 먼저 넣고 pending 에서 빼므로
+         둘 중 하나에서는 반드시 보임
+    ========================= */
+    public Optional<Lobby> overlay(Optional<Lobby> loaded) {
+        if (loaded.isEmpty()) return loaded;
+
+        Lobby lobby = loaded.get();
+        Pending queued = pending.get(lobby.getId());
+        Pending writing = inFlight.get(lobby.getId());
+
+        // 오래된 것부터 덧씌움
+        if (!apply(lobby, writing)) return Optional.empty();
+        if (!apply(lobby, queued)) return Optional.empty();
+        return loaded;
+    }
+
+    /*
+        커밋된 배치 수
+        - 행을 읽기 전 / overlay 후 값이 다르면 그 사이 커밋이 있었던 것 → 다시 읽어야 함
+    */
+    public long flushCount() {
+        return flushes.get();
+    }
+
+    // 삭제 예약이면 false
+    private boolean apply(Lobby lobby, Pending p) {
+        if (p == null) return true;
+
+        synchronized (p) {
+            if (p.deleted) return false;
+            if (p.hostUserId != null) {
+                lobby.setHostUserId(p.hostUserId);
+                lobby.setHostNickname(p.hostNickname);
+            }
+            if (p.gameStarted != null) {
+                lobby.setGameStarted(p.gameStarted);
+            }
+        }
+        return true;
+    }
+
+    /*
+        해당 방의 미반영 변경을 즉시 기록
+        - 같은 id 로 방을 다시 만들거나 메타데이터를 수정하기 전에 호출 (REST 경로)
+        - 백그라운드 배치가 기록 중이면 끝날 때까지 기다림
+        - 호출 측 트랜잭션과 무관하게 여기서 커밋됨 (writeBatch)
+    */
+    public synchronized void flushRoom(String roomId) {
+        Pending p = handOff(roomId);
+        if (p != null) {
+            write(Map.of(roomId, p));
+        }
+    }
+
+    /*
+        pending → inFlight 이동
+        - compute 안에서 inFlight 에 먼저 넣은 뒤 pending 에서 뺌 (조회가 둘 다 놓치는 틈 없음)
+    */
+    private Pending handOff(String roomId) {
+        Pending[] taken = new Pending[1];
+        pending.compute(roomId, (k, p) -> {
+            if (p != null) {
+                inFlight.put(k, p);
+                taken[0] = p;
+            }
+            return null;
+        });
+        return taken[0];
+    }
+
+    /* =========================
+       백그라운드 반영
+    ========================= */
+    private void run() {
+        while (running) {
+            try {
+                Thread.sleep(flushMs);
+            } catch (InterruptedException e) {
+                return;
+            }
+            try {
+                flushAll();
+            } catch (Exception e) {
+                log.error("[Server] lobby write-behind flush failed", e);
+            }
+        }
+    }
+
+    private synchronized void flushAll() {
+        if (pending.isEmpty()) return;
+
+        Map<String, Pending> batch = new HashMap<>();
+        for (String roomId : new ArrayList<>(pending.keySet())) {
+            Pending p = handOff(roomId);
+            if (p != null) {
+                batch.put(roomId, p);
+            }
+        }
+        write(batch);
+    }
+
+    /*
+        배치 기록
+        - 성공: flushCount / 캐시 epoch 를 올린 뒤 inFlight 에서 뺌
+          (그 사이 읽은 쪽은 다시 읽고, 커밋 전에 읽은 행은 캐시에 저장되지 않음)
+        - 실패: writeBatch 가 pending 에 되돌려 넣은 뒤 inFlight 에서 뺌
+    */
+    private void write(Map<String, Pending> batch) {
+        if (batch.isEmpty()) return;
+
+        try {
+            if (writeBatch(batch)) {
+                flushes.incrementAndGet();
+                lobbyCache.markStale();
+            }
+        } finally {
+            batch.forEach(inFlight::remove);
+        }
+    }
+
+    // 커밋했으면 true (커밋 실패 / 롤백이면 pending 에 되돌려 넣고 false)
+    private boolean writeBatch(Map<String, Pending> batch) {
+        List<Object[]> hosts = new ArrayList<>();
+        List<Object[]> started = new ArrayList<>();
+        List<Object[]> deletes = new ArrayList<>();
+
+        batch.forEach((roomId, p) -> {
+            synchronized (p) {
+                if (p.deleted) {
+                    deletes.add(new Object[]{roomId});
+                    return;
+                }
+                if (p.hostUserId != null) {
+                    hosts.add(new Object[]{p.hostUserId, p.hostNickname, roomId});
+                }
+                if (p.gameStarted != null) {
+                    started.add(new Object[]{p.gameStarted, roomId});
+                }
+            }
+        });
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!hosts.isEmpty()) jdbcTemplate.batchUpdate(UPDATE_HOST_SQL, hosts);
+                if (!started.isEmpty()) jdbcTemplate.batchUpdate(UPDATE_STARTED_SQL, started);
+                if (!deletes.isEmpty()) jdbcTemplate.batchUpdate(DELETE_SQL, deletes);
+            });
+        } catch (Exception e) {
+            // 다음 주기에 다시 시도 (그 사이 들어온 새 변경이 우선)
+            failures.increment();
+            log.warn("[Server] lobby write-behind batch failed ({} rooms), retrying", batch.size(), e);
+            batch.forEach((roomId, older) -> {
+                if (++older.attempts >= MAX_ATTEMPTS) {
+                    if (!older.deleted) {
+                        dropped.increment();
+                        log.error("[Server] lobby write dropped after {} attempts: room={} host={} started={}",
+                                older.attempts, roomId, older.hostUserId, older.gameStarted);
+                        return;
+                    }
+                    // 삭제는 버리면 DB 에 유령 방이 남음 → 계속 재시도
+                    if (older.attempts % MAX_ATTEMPTS == 0) {
+                        log.error("[Server] lobby delete still failing after {} attempts: room={}",
+                                older.attempts, roomId);
+                    }
+                }
+                pending.merge(roomId, older, (newer, old) -> {
+                    synchronized (newer) {
+                        newer.inheritFrom(old);
+                    }
+                    return newer;
+                });
+            });
+            return false;
+        }
+
+        long now = System.nanoTime();
+        batch.values().forEach(p -> lag.record(now - p.queuedAt, TimeUnit.NANOSECONDS));
+        batchSize.record(batch.size());
+        return true;
+    }
+}
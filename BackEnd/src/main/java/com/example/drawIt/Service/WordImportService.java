@@ -0,0 +1,261 @@
+package com.example.drawIt.Service;
+
+import com.example.drawIt.DTO.WordImportResultDTO;
+import com.example.drawIt.Domain.WordDictionaryIndex;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/*
+    단어 사전 대량 가져오기
+    - UTF-8 단어 목록(한 줄에 한 단어) 또는 CSV(지정 열)를 스트리밍으로 읽음 (전체를 메모리에 올리지 않음)
+    - chunk 단위로 읽고, chunk 안에서는 병렬로 정규화(NFC, 공백 / BOM 제거, 길이 / 문자 검사)
+    - 같은 chunk 안 중복만 메모리에서 거름 (파일 크기와 무관하게 메모리 일정),
+      다른 chunk / 기존 행과의 중복은 INSERT IGNORE(word unique)로 걸러짐
+    - chunk 마다 다중 행 INSERT 로 넣고 committedLine 갱신 → 중단되면 그 줄부터 다시 시작 가능
+      (다중 행 INSERT IGNORE 의 결과 개수 = 실제로 들어간 행 수, JDBC 배치는 SUCCESS_NO_INFO 라 셀 수 없음)
+      진행 중에도 committedLine() / chunk 마다 info 로그로 확인 가능
+    - 끝나면 메모리 사전(WordDictionaryIndex)에 새 행만 추가 반영, 서비스 중단 없음
+    - 가져오기 / 사전 반영은 전용 스레드 하나에서 (요청 스레드는 파일만 넘기고 바로 반환)
+*/
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WordImportService {
+
+    private static final String INSERT_PREFIX =
+            "insert ignore into word_dictionary (word, first_char, last_char, used) values ";
+    private static final String INSERT_ROW = "(?, ?, ?, false)";
+
+    private static final int MAX_WORD_LENGTH = 20;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final WordDictionaryIndex wordDictionaryIndex;
+
+    @Value("${drawit.words.import.chunk-lines:20000}")
+    private int chunkLines;
+
+    @Value("${drawit.words.import.batch-size:1000}")
+    private int batchSize;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "word-import");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 마지막으로 끝난 가져오기 결과 (없으면 null)
+    private volatile WordImportResultDTO lastResult;
+    // 진행 중(또는 마지막) 가져오기에서 DB 반영까지 끝난 마지막 줄 번호
+    private volatile long progressLine;
+    // batchSize 행짜리 INSERT 문 (마지막 배치만 따로 만듦)
+    private String fullBatchSql;
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    public WordImportResultDTO lastResult() {
+        return lastResult;
+    }
+
+    public long committedLine() {
+        return progressLine;
+    }
+
+    @PreDestroy
+    void stop() {
+        worker.shutdownNow();
+    }
+
+    /*
+        백그라운드 가져오기 시작
+        - file: 요청 본문을 받아 둔 임시 파일, 끝나면 삭제
+        - 이미 진행 중이면 IllegalStateException
+    */
+    public void start(Path file, int csvColumn, long fromLine) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("Word import already running.");
+        }
+
+        worker.execute(() -> {
+            try (InputStream in = Files.newInputStream(file)) {
+                lastResult = importWords(in, csvColumn, fromLine);
+            } catch (Exception e) {
+                log.error("[Server] word import failed: {}", file, e);
+            } finally {
+                deleteQuietly(file);
+                running.set(false);
+            }
+        });
+    }
+
+    /*
+        csvColumn < 0 이면 줄 전체가 단어, 아니면 쉼표로 나눈 해당 열
+        fromLine 이하의 줄은 건너뜀 (이전 결과의 committedLine)
+    */
+    WordImportResultDTO importWords(InputStream in, int csvColumn, long fromLine) {
+        long started = System.currentTimeMillis();
+        long lineNo = 0;
+        long committedLine = fromLine;
+        progressLine = fromLine;
+        long inserted = 0;
+        long duplicates = 0;
+        long rejected = 0;
+        String error = null;
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 1 << 16)) {
+            List<String> chunk = new ArrayList<>(chunkLines);
+            String line;
+
+            while (true) {
+                line = reader.readLine();
+                if (line != null) {
+                    lineNo++;
+                    if (lineNo <= fromLine) continue;
+                    chunk.add(line);
+                    if (chunk.size() < chunkLines) continue;
+                }
+                if (chunk.isEmpty()) break;
+
+                // 정규화는 병렬, chunk 내 중복 제거는 순서대로
+                List<String> normalized = chunk.parallelStream()
+                        .map(raw -> normalize(raw, csvColumn))
+                        .collect(Collectors.toList());
+
+                Set<String> seen = new HashSet<>(normalized.size() * 2);
+                List<String> words = new ArrayList<>(normalized.size());
+                for (int i = 0; i < normalized.size(); i++) {
+                    String word = normalized.get(i);
+                    if (word == null) {
+                        if (!chunk.get(i).isBlank()) rejected++;
+                    } else if (seen.add(word)) {
+                        words.add(word);
+                    } else {
+                        duplicates++;
+                    }
+                }
+
+                int written = insert(words);
+                inserted += written;
+                duplicates += words.size() - written;
+                committedLine = lineNo;
+                progressLine = committedLine;
+                chunk.clear();
+                log.info("[Server] word import committed line {} (inserted={})", committedLine, inserted);
+
+                if (line == null) break;
+            }
+        } catch (Exception e) {
+            log.error("[Server] word import stopped at line {}", committedLine, e);
+            error = e.getMessage();
+        }
+
+        long elapsed = Math.max(1, System.currentTimeMillis() - started);
+        long linesPerSecond = (committedLine - fromLine) * 1000 / elapsed;
+
+        log.info("[Server] word import {}: lines={}, inserted={}, committedLine={}, {} lines/s",
+                error == null ? "done" : "stopped", lineNo, inserted, committedLine, linesPerSecond);
+
+        // 새로 들어간 행만 메모리 사전에 반영
+        if (inserted > 0) {
+            wordDictionaryIndex.refresh();
+        }
+
+        return new WordImportResultDTO(
+                error == null, lineNo, committedLine, inserted, duplicates, rejected, elapsed, linesPerSecond, error
+        );
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("[Server] could not delete word import file: {}", file, e);
+        }
+    }
+
+    private int insert(List<String> words) {
+        if (words.isEmpty()) return 0;
+
+        int written = 0;
+        for (int from = 0; from < words.size(); from += batchSize) {
+            List<String> batch = words.subList(from, Math.min(words.size(), from + batchSize));
+            Object[] args = new Object[batch.size() * 3];
+            int a = 0;
+            for (String word : batch) {
+                args[a++] = word;
+                args[a++] = word.substring(0, 1);
+                args[a++] = word.substring(word.length() - 1);
+            }
+            // INSERT IGNORE 로 건너뛴 행은 개수에 들어가지 않음
+            written += jdbcTemplate.update(insertSql(batch.size()), args);
+        }
+        return written;
+    }
+
+    private String insertSql(int rows) {
+        if (rows == batchSize) {
+            if (fullBatchSql == null) fullBatchSql = buildInsertSql(rows);
+            return fullBatchSql;
+        }
+        return buildInsertSql(rows);
+    }
+
+    static String buildInsertSql(int rows) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rows * (INSERT_ROW.length() + 1));
+        sql.append(INSERT_PREFIX);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) sql.append(',');
+            sql.append(INSERT_ROW);
+        }
+        return sql.toString();
+    }
+
+    /*
+        정규화
+        - CSV 면 지정 열만, 따옴표 제거
+        - NFC 정규화 (자모 분리 입력 → 완성형), 앞뒤 공백 / BOM 제거
+        - 한글 완성형만, 2 ~ 20자
+    */
+    static String normalize(String raw, int csvColumn) {
+        if (raw == null) return null;
+
+        String value = raw;
+        if (csvColumn >= 0) {
+            String[] columns = raw.split(",", -1);
+            if (csvColumn >= columns.length) return null;
+            value = columns[csvColumn];
+        }
+
+        value = value.replace("\uFEFF", "").replace("\"", "").strip();
+        if (value.isEmpty() || value.startsWith("#")) return null;
+
+        value = Normalizer.normalize(value, Normalizer.Form.NFC);
+        if (value.length() < 2 || value.length() > MAX_WORD_LENGTH) return null;
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '가' || c > '힣') return null;
+        }
+        return value;
+    }
+}
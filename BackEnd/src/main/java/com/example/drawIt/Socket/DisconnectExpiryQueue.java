@@ -0,0 +1,113 @@
+package com.example.drawIt.Socket;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/*
+    연결 끊긴 유저의 만료(F5 유예 종료) 예약
+    - markDisconnected 에서 예약, 재접속(addUser) 시 취소
+    - 만료된 항목만 꺼내므로 전체 방/유저를 훑지 않음
+    - 예정 시각 대비 실제 처리 지연을 drawit.lobby.disconnect.expiry.lag 로 기록
+*/
+@Component
+@RequiredArgsConstructor
+public class DisconnectExpiryQueue {
+
+    private final MeterRegistry meterRegistry;
+
+    private final DelayQueue<Expiry> queue = new DelayQueue<>();
+    private final Map<String, Expiry> pending = new ConcurrentHashMap<>();
+
+    private Timer expiryLag;
+
+    public static final class Expiry implements Delayed {
+        private final String roomId;
+        private final String userId;
+        private final long disconnectAt;
+        private final long deadline;
+        private volatile boolean cancelled;
+
+        Expiry(String roomId, String userId, long disconnectAt, long deadline) {
+            this.roomId = roomId;
+            this.userId = userId;
+            this.disconnectAt = disconnectAt;
+            this.deadline = deadline;
+        }
+
+        public String roomId() { return roomId; }
+        public String userId() { return userId; }
+        public long disconnectAt() { return disconnectAt; }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadline - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed o) {
+            return Long.compare(deadline, ((Expiry) o).deadline);
+        }
+    }
+
+    @PostConstruct
+    void initMeters() {
+        expiryLag = Timer.builder("drawit.lobby.disconnect.expiry.lag")
+                .description("Delay between a disconnect deadline and its removal being processed")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        meterRegistry.gauge("drawit.lobby.disconnect.pending", pending, Map::size);
+    }
+
+    /*
+        disconnectAt 은 만료 시점에 아직 같은 끊김인지 확인하는 토큰으로 사용
+    */
+    public void schedule(String roomId, String userId, long disconnectAt, long deadline) {
+        Expiry expiry = new Expiry(roomId, userId, disconnectAt, deadline);
+        Expiry previous = pending.put(key(roomId, userId), expiry);
+        if (previous != null) {
+            cancel(previous);
+        }
+        queue.add(expiry);
+    }
+
+    public void cancel(String roomId, String userId) {
+        Expiry previous = pending.remove(key(roomId, userId));
+        if (previous != null) {
+            cancel(previous);
+        }
+    }
+
+    private void cancel(Expiry expiry) {
+        expiry.cancelled = true;
+        // 대기 중인 끊김 수만큼만 순회 (전체 유저 수와 무관)
+        queue.remove(expiry);
+    }
+
+    /*
+        다음 만료 항목이 나올 때까지 대기
+    */
+    public Expiry take() throws InterruptedException {
+        while (true) {
+            Expiry expiry = queue.take();
+            if (expiry.cancelled) continue;
+
+            pending.remove(key(expiry.roomId, expiry.userId), expiry);
+            expiryLag.record(Duration.ofMillis(Math.max(0, System.currentTimeMillis() - expiry.deadline)));
+            return expiry;
+        }
+    }
+
+    private static String key(String roomId, String userId) {
+        return roomId + "/" + userId;
+    }
+}
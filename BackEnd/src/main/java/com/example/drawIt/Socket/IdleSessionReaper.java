@@ -0,0 +1,126 @@
+package com.example.drawIt.Socket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+    유휴 WebSocket 세션 정리
+    - 세션별 마지막 수신 시각(하트비트 포함)을 기록
+    - idle-timeout 동안 아무 프레임도 오지 않으면 서버에서 세션을 닫음
+      → SessionDisconnectEvent → LobbyUserStore.markDisconnected 로 이어져 방 인원 정리
+    - 브로커 하트비트 감지(주기의 3배)보다 빠르게, 하트비트를 협상하지 않은 세션까지 처리
+*/
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdleSessionReaper implements WebSocketHandlerDecoratorFactory {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${drawit.ws.idle-timeout-ms:15000}")
+    private long idleTimeoutMs;
+
+    private final Map<String, TrackedSession> sessions = new ConcurrentHashMap<>();
+
+    private Counter reapedCounter;
+    private Timer reapedLatency;
+    private Timer closedLatency;
+
+    private static class TrackedSession {
+        final WebSocketSession session;
+        volatile long lastActivity = System.currentTimeMillis();
+        volatile boolean reaped;
+
+        TrackedSession(WebSocketSession session) {
+            this.session = session;
+        }
+    }
+
+    @PostConstruct
+    void initMeters() {
+        reapedCounter = Counter.builder("drawit.ws.sessions.reaped")
+                .description("Sessions closed by the idle reaper")
+                .register(meterRegistry);
+        reapedLatency = detectionTimer("reaped");
+        closedLatency = detectionTimer("closed");
+        meterRegistry.gauge("drawit.ws.sessions.tracked", sessions, Map::size);
+    }
+
+    private Timer detectionTimer(String cause) {
+        return Timer.builder("drawit.ws.disconnect.detection")
+                .description("Time from last inbound frame to session close")
+                .tag("cause", cause)
+                .publishPercentiles(0.5, 0.95)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                sessions.put(session.getId(), new TrackedSession(session));
+                super.afterConnectionEstablished(session);
+            }
+
+            @Override
+            public void handleMessage(WebSocketSession session, WebSocketMessage<?> message) throws Exception {
+                TrackedSession tracked = sessions.get(session.getId());
+                if (tracked != null) {
+                    tracked.lastActivity = System.currentTimeMillis();
+                }
+                super.handleMessage(session, message);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                TrackedSession tracked = sessions.remove(session.getId());
+                if (tracked != null) {
+                    Duration silence = Duration.ofMillis(System.currentTimeMillis() - tracked.lastActivity);
+                    (tracked.reaped ? reapedLatency : closedLatency).record(silence);
+                }
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    /* =========================
+       주기적으로 유휴 세션 닫기 (공용 taskScheduler 에서 실행)
+    ========================= */
+    @Scheduled(fixedDelayString = "${drawit.ws.reaper.interval-ms:2000}")
+    public void reapIdleSessions() {
+        long deadline = System.currentTimeMillis() - idleTimeoutMs;
+
+        for (TrackedSession tracked : sessions.values()) {
+            if (tracked.reaped || tracked.lastActivity > deadline) continue;
+
+            tracked.reaped = true;
+            reapedCounter.increment();
+            try {
+                tracked.session.close(CloseStatus.SESSION_NOT_RELIABLE);
+            } catch (IOException e) {
+                // 이미 끊긴 소켓이면 컨테이너가 곧 afterConnectionClosed 를 호출
+                log.warn("[WS] 유휴 세션 종료 실패: {} {}", tracked.session.getId(), e.getMessage());
+            }
+        }
+    }
+}
@@ -1,19 +1,50 @@
 package com.example.drawIt.Socket;
 
+import com.example.drawIt.Domain.RoomExecutor;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.EnableScheduling;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+@Slf4j
 @Component
 @EnableScheduling
 @RequiredArgsConstructor
 public class LobbyCleanupScheduler {
 
     private final LobbyUserStore lobbyUserStore;
+    private final DisconnectExpiryQueue expiryQueue;
+    private final RoomExecutor roomExecutor;
 
-    @Scheduled(fixedDelay = 1000) // 1초마다 유령방 정리
-    public void cleanupDisconnectedUsers() {
-        lobbyUserStore.cleanup();
+    private Thread worker;
+
+    // 유예 시간이 지난 끊김만 꺼내서 유령 유저 정리
+    @PostConstruct
+    void start() {
+        worker = new Thread(this::drain, "disconnect-expiry");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        worker.interrupt();
+    }
+
+    private void drain() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                DisconnectExpiryQueue.Expiry expiry = expiryQueue.take();
+                // 출제자 교체 등 게임 상태가 바뀌므로 방 샤드에서 처리
+                roomExecutor.execute(expiry.roomId(), () ->
+                        lobbyUserStore.expireDisconnected(expiry.roomId(), expiry.userId(), expiry.disconnectAt()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.error("[Server] disconnect expiry failed", e);
+            }
+        }
     }
 }
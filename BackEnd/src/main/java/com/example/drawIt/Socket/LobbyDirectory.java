@@ -0,0 +1,238 @@
+package com.example.drawIt.Socket;
+
+import com.example.drawIt.DTO.LobbyPageDTO;
+import com.example.drawIt.DTO.LobbyResponseDTO;
+import com.example.drawIt.DTO.SocketEvent;
+import com.example.drawIt.Entity.Lobby;
+import com.example.drawIt.Repository.LobbyRepository;
+import com.example.drawIt.Service.LobbyWriteBehind;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.*;
+
+/*
+    메모리 로비 목록
+    - Lobby 테이블(메타데이터) + LobbyUserStore(인원 수)의 변경을 받아 유지
+    - 변경은 FLUSH_MS 동안 모아 버전이 붙은 LOBBY_DIFF 하나로 /topic/lobbies 에 전송
+    - 주기적으로 LOBBY_SNAPSHOT 을 보내 어긋난 클라이언트를 복구
+    - published 는 마지막으로 알린(보이는) 방 목록 = 현재 version 시점의 상태
+    - 검색 인덱스(LobbyIndex)도 published 기준으로 함께 갱신
+*/
+@Component
+@RequiredArgsConstructor
+public class LobbyDirectory {
+
+    private static final long FLUSH_MS = 200;
+    private static final int MAX_COUNT = 10;
+
+    private final LobbyRepository lobbyRepository;
+    private final LobbyWriteBehind lobbyWriteBehind;
+    private final SocketEventPublisher eventPublisher;
+    private final TaskScheduler taskScheduler;
+
+    // 아래 상태는 모두 this 로 보호
+    private final Map<String, LobbyResponseDTO> lobbies = new HashMap<>();
+    private final Map<String, LobbyResponseDTO> published = new HashMap<>();
+    private final Set<String> dirty = new LinkedHashSet<>();
+    private final LobbyIndex index = new LobbyIndex();
+    private long version;
+    private boolean flushScheduled;
+
+    /* =========================
+       Lobby 테이블 변경 반영
+    ========================= */
+    public void register(Lobby lobby) {
+        LobbyResponseDTO dto = new LobbyResponseDTO(lobby);
+        dto.setMaxCount(MAX_COUNT);
+
+        synchronized (this) {
+            LobbyResponseDTO previous = lobbies.get(lobby.getId());
+            if (previous != null) {
+                dto.setCurrentCount(previous.getCurrentCount());
+            }
+            lobbies.put(lobby.getId(), dto);
+            markDirty(lobby.getId());
+        }
+    }
+
+    public synchronized void markStarted(String roomId, boolean started) {
+        LobbyResponseDTO dto = lobbies.get(roomId);
+        if (dto == null || dto.isGameStarted() == started) return;
+
+        dto.setGameStarted(started);
+        markDirty(roomId);
+    }
+
+    public synchronized void updateHost(String roomId, String hostNickname) {
+        LobbyResponseDTO dto = lobbies.get(roomId);
+        if (dto == null || Objects.equals(dto.getHostNickname(), hostNickname)) return;
+
+        dto.setHostNickname(hostNickname);
+        markDirty(roomId);
+    }
+
+    public synchronized void remove(String roomId) {
+        if (lobbies.remove(roomId) != null) {
+            markDirty(roomId);
+        }
+    }
+
+    /* =========================
+       LobbyUserStore 인원 변경 반영
+    ========================= */
+    public void updateCount(String roomId, int count) {
+        // 재시작 등으로 목록에 없는 방은 한 번만 DB에서 불러옴 (락 밖)
+        if (!contains(roomId) && count > 0) {
+            lobbyWriteBehind.overlay(lobbyRepository.findById(roomId)).ifPresent(this::register);
+        }
+
+        synchronized (this) {
+            LobbyResponseDTO dto = lobbies.get(roomId);
+            if (dto == null || dto.getCurrentCount() == count) return;
+
+            dto.setCurrentCount(count);
+            markDirty(roomId);
+        }
+    }
+
+    private synchronized boolean contains(String roomId) {
+        return lobbies.containsKey(roomId);
+    }
+
+    /* =========================
+       조회
+    ========================= */
+    public synchronized List<LobbyResponseDTO> visibleLobbies() {
+        List<LobbyResponseDTO> result = new ArrayList<>();
+        for (LobbyResponseDTO dto : published.values()) {
+            result.add(copyOf(dto));
+        }
+        // 오래된 방이 위로, createdAt 없는 방은 뒤로
+        result.sort(Comparator.comparing(LobbyResponseDTO::getCreatedAt,
+                Comparator.nullsLast(Comparator.naturalOrder())));
+        return result;
+    }
+
+    /*
+        조건 검색 + 커서 페이지네이션
+        - mode: 정규화된 모드명(RANDOM, WORD_CHAIN 등), null 이면 전체
+        - joinableOnly: 빈 자리 있음 + 대기 중 + 비밀번호 없음
+        - namePrefix: 방 이름 접두사 (대소문자 무시)
+    */
+    public synchronized LobbyPageDTO search(String mode, boolean joinableOnly, String namePrefix,
+                                            String cursor, int size) {
+        LobbyIndex.Key after = cursor != null && !cursor.isBlank() ? LobbyIndex.Key.fromCursor(cursor) : null;
+
+        // 한 개 더 조회해서 다음 페이지 존재 여부 판단
+        List<LobbyResponseDTO> found = index.search(mode, joinableOnly, namePrefix, after, size + 1);
+
+        String nextCursor = null;
+        if (found.size() > size) {
+            found = found.subList(0, size);
+            nextCursor = LobbyIndex.Key.of(found.get(size - 1)).toCursor();
+        }
+
+        List<LobbyResponseDTO> page = new ArrayList<>(found.size());
+        for (LobbyResponseDTO dto : found) {
+            page.add(copyOf(dto));
+        }
+        return new LobbyPageDTO(page, nextCursor, version);
+    }
+
+    public synchronized SocketEvent.LobbySnapshot snapshot() {
+        return new SocketEvent.LobbySnapshot(version, visibleLobbies());
+    }
+
+    @Scheduled(fixedDelayString = "${drawit.lobby.snapshot-interval-ms:30000}")
+    public void broadcastSnapshot() {
+        eventPublisher.send("/topic/lobbies", snapshot());
+    }
+
+    /* =========================
+       변경분 모아서 전송
+    ========================= */
+    private void markDirty(String roomId) {
+        dirty.add(roomId);
+        if (flushScheduled) return;
+
+        flushScheduled = true;
+        taskScheduler.schedule(this::flush, Instant.now().plusMillis(FLUSH_MS));
+    }
+
+    private synchronized void flush() {
+        flushScheduled = false;
+        if (dirty.isEmpty()) return;
+
+        List<SocketEvent.LobbyChange> changes = new ArrayList<>();
+
+        for (String roomId : dirty) {
+            LobbyResponseDTO before = published.get(roomId);
+            LobbyResponseDTO current = lobbies.get(roomId);
+            boolean visible = current != null && isVisible(current);
+
+            if (!visible) {
+                if (before != null) {
+                    published.remove(roomId);
+                    index.remove(roomId);
+                    changes.add(SocketEvent.LobbyChange.removed(roomId));
+                }
+                continue;
+            }
+
+            LobbyResponseDTO after = copyOf(current);
+            published.put(roomId, after);
+            index.put(after);
+
+            if (before == null) {
+                changes.add(SocketEvent.LobbyChange.added(after));
+            } else if (metadataChanged(before, after)) {
+                changes.add(SocketEvent.LobbyChange.updated(after));
+            } else {
+                if (before.getCurrentCount() != after.getCurrentCount()) {
+                    changes.add(SocketEvent.LobbyChange.count(roomId, after.getCurrentCount()));
+                }
+                if (before.isGameStarted() != after.isGameStarted()) {
+                    changes.add(SocketEvent.LobbyChange.started(roomId, after.isGameStarted()));
+                }
+            }
+        }
+        dirty.clear();
+
+        if (changes.isEmpty()) return;
+
+        long baseVersion = version++;
+        eventPublisher.send("/topic/lobbies", new SocketEvent.LobbyDiff(version, baseVersion, changes));
+    }
+
+    // 0명 방, 게임 중인데 2명 미만인 방은 목록에서 제외
+    private boolean isVisible(LobbyResponseDTO dto) {
+        int count = dto.getCurrentCount();
+        if (count <= 0) return false;
+        return !(dto.isGameStarted() && count < 2);
+    }
+
+    private boolean metadataChanged(LobbyResponseDTO before, LobbyResponseDTO after) {
+        return !Objects.equals(before.getName(), after.getName())
+                || !Objects.equals(before.getMode(), after.getMode())
+                || !Objects.equals(before.getHostNickname(), after.getHostNickname())
+                || before.isPasswordEnabled() != after.isPasswordEnabled();
+    }
+
+    private LobbyResponseDTO copyOf(LobbyResponseDTO dto) {
+        return new LobbyResponseDTO(
+                dto.getId(),
+                dto.getName(),
+                dto.getMode(),
+                dto.getHostNickname(),
+                dto.isGameStarted(),
+                dto.getCurrentCount(),
+                dto.getMaxCount(),
+                dto.isPasswordEnabled(),
+                dto.getCreatedAt()
+        );
+    }
+}
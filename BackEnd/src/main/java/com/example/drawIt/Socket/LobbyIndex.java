@@ -0,0 +1,181 @@
+package com.example.drawIt.Socket;
+
+import com.example.drawIt.DTO.LobbyResponseDTO;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+
+/*
+    로비 검색용 보조 인덱스 (LobbyDirectory 락 안에서만 사용)
+    - 모드별 집합, 입장 가능(빈 자리 + 대기 중 + 비밀번호 없음) 집합, 방 이름 접두사 트라이
+    - 모든 집합은 (createdAt, id) 순으로 정렬되어 커서 페이지네이션에 그대로 사용
+*/
+class LobbyIndex {
+
+    /* =========================
+       정렬 키 + 커서
+    ========================= */
+    record Key(long createdAt, String id) implements Comparable<Key> {
+
+        static Key of(LobbyResponseDTO dto) {
+            LocalDateTime createdAt = dto.getCreatedAt();
+            // createdAt 없는 방은 뒤로
+            long millis = createdAt != null
+                    ? createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                    : Long.MAX_VALUE;
+            return new Key(millis, dto.getId());
+        }
+
+        @Override
+        public int compareTo(Key o) {
+            int c = Long.compare(createdAt, o.createdAt);
+            return c != 0 ? c : id.compareTo(o.id);
+        }
+
+        String toCursor() {
+            String raw = createdAt + ":" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Key fromCursor(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int sep = raw.indexOf(':');
+                return new Key(Long.parseLong(raw.substring(0, sep)), raw.substring(sep + 1));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("잘못된 커서: " + cursor, e);
+            }
+        }
+    }
+
+    private static class TrieNode {
+        final Map<Character, TrieNode> children = new HashMap<>();
+        // 이 접두사로 시작하는 방들
+        final NavigableSet<Key> keys = new TreeSet<>();
+    }
+
+    private final Map<String, LobbyResponseDTO> byId = new HashMap<>();
+    private final NavigableSet<Key> all = new TreeSet<>();
+    private final Map<String, NavigableSet<Key>> byMode = new HashMap<>();
+    private final NavigableSet<Key> joinable = new TreeSet<>();
+    private final TrieNode nameRoot = new TrieNode();
+
+    /* =========================
+       유지 (추가 / 제거 / 변경)
+    ========================= */
+    void put(LobbyResponseDTO dto) {
+        LobbyResponseDTO previous = byId.put(dto.getId(), dto);
+        if (previous != null) {
+            unindex(previous);
+        }
+        index(dto);
+    }
+
+    void remove(String id) {
+        LobbyResponseDTO previous = byId.remove(id);
+        if (previous != null) {
+            unindex(previous);
+        }
+    }
+
+    private void index(LobbyResponseDTO dto) {
+        Key key = Key.of(dto);
+        all.add(key);
+        byMode.computeIfAbsent(dto.getMode(), m -> new TreeSet<>()).add(key);
+        if (isJoinable(dto)) joinable.add(key);
+
+        TrieNode node = nameRoot;
+        for (char ch : normalize(dto.getName()).toCharArray()) {
+            node = node.children.computeIfAbsent(ch, c -> new TrieNode());
+            node.keys.add(key);
+        }
+    }
+
+    private void unindex(LobbyResponseDTO dto) {
+        Key key = Key.of(dto);
+        all.remove(key);
+
+        NavigableSet<Key> modeSet = byMode.get(dto.getMode());
+        if (modeSet != null) {
+            modeSet.remove(key);
+            if (modeSet.isEmpty()) byMode.remove(dto.getMode());
+        }
+        joinable.remove(key);
+
+        // 경로를 따라 내려가며 제거, 비게 된 가지는 잘라냄
+        String name = normalize(dto.getName());
+        Deque<TrieNode> path = new ArrayDeque<>();
+        TrieNode node = nameRoot;
+        for (char ch : name.toCharArray()) {
+            node = node.children.get(ch);
+            if (node == null) break;
+            node.keys.remove(key);
+            path.push(node);
+        }
+        for (int i = path.size() - 1; i >= 0; i--) {
+            TrieNode child = path.pop();
+            if (!child.keys.isEmpty()) break;
+            TrieNode parent = path.isEmpty() ? nameRoot : path.peek();
+            parent.children.remove(name.charAt(i));
+        }
+    }
+
+    /* =========================
+       검색
+       - 가장 작은 후보 집합 하나를 커서 이후부터 순회하고 나머지 조건은 필터로 확인
+    ========================= */
+    List<LobbyResponseDTO> search(String mode, boolean joinableOnly, String namePrefix, Key after, int limit) {
+        List<NavigableSet<Key>> candidates = new ArrayList<>();
+        candidates.add(all);
+
+        if (mode != null) {
+            candidates.add(byMode.getOrDefault(mode, Collections.emptyNavigableSet()));
+        }
+        if (joinableOnly) {
+            candidates.add(joinable);
+        }
+        String prefix = namePrefix != null ? normalize(namePrefix) : "";
+        if (!prefix.isEmpty()) {
+            candidates.add(prefixKeys(prefix));
+        }
+
+        NavigableSet<Key> smallest = candidates.stream()
+                .min(Comparator.comparingInt(Set::size))
+                .orElse(all);
+        NavigableSet<Key> range = after != null ? smallest.tailSet(after, false) : smallest;
+
+        List<LobbyResponseDTO> result = new ArrayList<>();
+        for (Key key : range) {
+            LobbyResponseDTO dto = byId.get(key.id());
+            if (dto == null) continue;
+            if (mode != null && !mode.equals(dto.getMode())) continue;
+            if (joinableOnly && !isJoinable(dto)) continue;
+            if (!prefix.isEmpty() && !normalize(dto.getName()).startsWith(prefix)) continue;
+
+            result.add(dto);
+            if (result.size() >= limit) break;
+        }
+        return result;
+    }
+
+    private NavigableSet<Key> prefixKeys(String prefix) {
+        TrieNode node = nameRoot;
+        for (char ch : prefix.toCharArray()) {
+            node = node.children.get(ch);
+            if (node == null) return Collections.emptyNavigableSet();
+        }
+        return node.keys;
+    }
+
+    private static boolean isJoinable(LobbyResponseDTO dto) {
+        return dto.getCurrentCount() < dto.getMaxCount()
+                && !dto.isGameStarted()
+                && !dto.isPasswordEnabled();
+    }
+
+    private static String normalize(String name) {
+        return name == null ? "" : name.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.drawIt.Socket;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+    방 하나의 접속 유저 상태 + 방 단위 락
+    - 변경은 synchronized (room) 안에서만 수행
+    - users 는 ConcurrentHashMap 이라 조회는 락 없이 가능
+    - closed 된 방 객체는 재사용하지 않음 (다음 입장 시 새로 생성)
+    - 유저 목록 스냅샷은 변경 시 버리고, 다음 조회 때 한 번만 다시 만듦
+*/
+class LobbyRoom {
+
+    final String roomId;
+    final Map<String, UserSessionState> users = new ConcurrentHashMap<>();
+    final NicknameIndex nicknames = new NicknameIndex();
+    boolean closed;
+
+    long revision;
+    volatile RoomUsers snapshot;
+
+    LobbyRoom(String roomId) {
+        this.roomId = roomId;
+    }
+
+    // 락 안에서 유저 목록 / 필드를 바꾼 뒤 호출
+    void changed() {
+        revision++;
+        snapshot = null;
+    }
+}
@@ -1,237 +1,248 @@
 package com.example.drawIt.Socket;
 
+import com.example.drawIt.DTO.SocketEvent;
 import com.example.drawIt.Domain.GameState;
 import com.example.drawIt.Domain.GameStateManager;
+import com.example.drawIt.Domain.RoomClock;
+import com.example.drawIt.Domain.WordChainBots;
 import com.example.drawIt.Domain.WordChainGameManager;
 import com.example.drawIt.Entity.Lobby;
-import com.example.drawIt.Repository.LobbyRepository;
+import com.example.drawIt.Service.LobbyService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 public class LobbyUserStore {
 
-    private final LobbyRepository lobbyRepository;
+    private final LobbyService lobbyService;
     private final GameStateManager gameStateManager;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final SocketEventPublisher eventPublisher;
+    private final UserUpdateBroadcaster userUpdateBroadcaster;
+    private final LobbyDirectory lobbyDirectory;
+    private final DisconnectExpiryQueue expiryQueue;
+    private final RoomClock roomClock;
+    private final WordChainBots wordChainBots;
+    // 인원 변경 알림 (끝말잇기 플레이어 목록 등)
+    private final ApplicationEventPublisher applicationEvents;
 
     // F5 유예 시간
     private static final long GRACE_MS = 1500;
 
-    private final Map<String, Map<String, UserSessionState>> rooms = new ConcurrentHashMap<>();
+    // 방마다 별도 락 → 서로 다른 방의 입장/퇴장은 병렬로 진행
+    private final Map<String, LobbyRoom> rooms = new ConcurrentHashMap<>();
     private final Map<String, String[]> sessionIndex = new ConcurrentHashMap<>();
     private final WordChainGameManager wordChainGameManager;
 
-    /* =========================
-       입장 / 재접속
-    ========================= */
-    private void broadcastLobbyList() {
-
-        List<Lobby> lobbies = lobbyRepository.findAll();
-        List<Map<String, Object>> result = new ArrayList<>();
+    /*
+        락 안에서 결정된 퇴장 결과
+        - DB 반영 / 브로드캐스트는 락 밖에서 applyRemoval 로 처리
+    */
+    private record Removal(LobbyRoom room, UserSessionState removed, int remainCount, UserSessionState newHost) {}
 
-        for (Lobby lobby : lobbies) {
+    /*
+        로비 목록에 현재 인원 반영 (변경분만 /topic/lobbies 로 전송됨)
+    */
+    private void publishCount(String roomId) {
+        LobbyRoom room = rooms.get(roomId);
+        lobbyDirectory.updateCount(roomId, room != null ? room.users.size() : 0);
+    }
 
-            Map<String, UserSessionState> users = rooms.get(lobby.getId());
-            int count = (users != null) ? users.size() : 0;
+    private void updateHost(String roomId, String userId, String nickname) {
+        lobbyService.updateHost(roomId, userId, nickname);
+    }
 
-            // 0명 방 제외
-            if (count <= 0) continue;
+    private void deleteLobby(String roomId) {
+        lobbyService.deleteLobby(roomId);
+    }
 
-            // 게임 중인데 2명 미만이면 제외
-            if (lobby.isGameStarted() && count < 2) continue;
+    /* =========================
+       입장 / 재접속
+    ========================= */
+    public void addUser(String roomId, String sessionId, String userId, String nickname) {
 
-            Map<String, Object> dto = new HashMap<>();
-            dto.put("id", lobby.getId());
-            dto.put("name", lobby.getName());
-            dto.put("mode", lobby.getMode());
-            dto.put("hostNickname", lobby.getHostNickname());
-            dto.put("gameStarted", lobby.isGameStarted());
-            dto.put("currentCount", count);
-            dto.put("maxCount", 10);
-            dto.put(
-                    "passwordEnabled",
-                    lobby.getPassword() != null && !lobby.getPassword().isBlank()
-            );
+        String hostNickname = null;
+        String joinedNickname = null;
 
-            result.add(dto);
-        }
+        while (true) {
+            LobbyRoom room = rooms.computeIfAbsent(roomId, LobbyRoom::new);
 
-        messagingTemplate.convertAndSend("/topic/lobbies", result);
-    }
+            synchronized (room) {
+                // 방금 닫힌 방이면 새 방 객체로 재시도
+                if (room.closed) continue;
 
-    @Transactional
-    public synchronized void addUser(String roomId, String sessionId, String userId, String nickname) {
+                UserSessionState state = room.users.get(userId);
 
-        rooms.putIfAbsent(roomId, new ConcurrentHashMap<>());
-        Map<String, UserSessionState> users = rooms.get(roomId);
+                if (state == null) {
+                    boolean isFirst = room.users.isEmpty();
+                    String resolvedNickname = resolveDuplicateNickname(room, nickname);
+                    state = new UserSessionState(userId, resolvedNickname, isFirst);
+                    room.users.put(userId, state);
+                    room.changed();
+                    joinedNickname = resolvedNickname;
 
-        UserSessionState state = users.get(userId);
+                    if (isFirst) {
+                        hostNickname = resolvedNickname;
+                    }
+                } else {
+                    // 재접속 → 예약된 만료 취소
+                    state.setDisconnectAt(0);
+                    expiryQueue.cancel(roomId, userId);
+                }
 
-        if (state == null) {
-            boolean isFirst = users.isEmpty();
-            String resolvedNickname = resolveDuplicateNickname(roomId, nickname);
-            state = new UserSessionState(userId, resolvedNickname, isFirst);
-            users.put(userId, state);
+                // 재접속(F5)이면 이전 세션의 끊김 이벤트가 늦게 와도 무시되도록 인덱스 교체
+                String previousSessionId = state.getSessionId();
+                if (previousSessionId != null && !previousSessionId.equals(sessionId)) {
+                    sessionIndex.remove(previousSessionId);
+                }
 
-            if (isFirst) {
-                lobbyRepository.updateHost(roomId, userId, resolvedNickname);
+                state.setSessionId(sessionId);
+                sessionIndex.put(sessionId, new String[]{roomId, userId});
             }
-        } else {
-            state.setDisconnectAt(0);
+            break;
+        }
 
-            String resolvedNickname = resolveDuplicateNickname(roomId, nickname);
+        if (hostNickname != null) {
+            updateHost(roomId, userId, hostNickname);
         }
 
-        state.setSessionId(sessionId);
-        sessionIndex.put(sessionId, new String[]{roomId, userId});
+        publishCount(roomId);
 
-        broadcastLobbyList();
+        if (joinedNickname != null) {
+            applicationEvents.publishEvent(RoomMembershipEvent.joined(roomId, userId, joinedNickname));
+        }
     }
 
     /* =========================
        명시적 나가기
     ========================= */
-    @Transactional
-    public synchronized void leaveRoom(String roomId, String userId) {
-        Map<String, UserSessionState> users = rooms.get(roomId);
-        if (users == null) return;
-
-        UserSessionState removed = users.remove(userId);
-        if (removed != null && removed.getSessionId() != null) {
-            sessionIndex.remove(removed.getSessionId());
+    public void leaveRoom(String roomId, String userId) {
+        LobbyRoom room = rooms.get(roomId);
+        if (room == null) return;
+
+        Removal removal;
+        synchronized (room) {
+            if (room.closed) return;
+
+            UserSessionState removed = room.users.remove(userId);
+            if (removed != null) {
+                room.nicknames.remove(removed.getNickname());
+                if (removed.getSessionId() != null) {
+                    sessionIndex.remove(removed.getSessionId());
+                }
+            }
+            room.changed();
+            removal = detach(room, removed);
         }
 
-        processUserRemoval(roomId, users, removed);
+        applyRemoval(removal);
         sendUserUpdate(roomId);
-        broadcastLobbyList();
+        publishCount(roomId);
+        publishLeft(roomId, removal.removed());
+        removeOrphanBots(roomId, userId);
     }
 
     /* =========================
        연결 끊김 마킹
     ========================= */
-    public synchronized void markDisconnected(String sessionId) {
+    public void markDisconnected(String sessionId) {
         String[] info = sessionIndex.get(sessionId);
         if (info == null) return;
 
         String roomId = info[0];
         String userId = info[1];
 
-        Map<String, UserSessionState> users = rooms.get(roomId);
-        if (users != null) {
-            UserSessionState state = users.get(userId);
+        LobbyRoom room = rooms.get(roomId);
+        if (room == null) return;
+
+        synchronized (room) {
+            UserSessionState state = room.users.get(userId);
             if (state != null) {
-                state.setDisconnectAt(System.currentTimeMillis());
+                long now = System.currentTimeMillis();
+                state.setDisconnectAt(now);
+                expiryQueue.schedule(roomId, userId, now, now + GRACE_MS);
             }
         }
     }
 
     /* =========================
-       주기적 정리 (F5 타임아웃)
+       F5 유예 만료 (DisconnectExpiryQueue 에서 호출)
+       - 그 사이 재접속했거나 다시 끊긴 경우(disconnectAt 불일치)는 무시
     ========================= */
-    @Transactional
-    public synchronized void cleanup() {
-        long now = System.currentTimeMillis();
-
-        for (String roomId : new HashSet<>(rooms.keySet())) {
-            Map<String, UserSessionState> users = rooms.get(roomId);
-            if (users == null) continue;
-
-            Iterator<UserSessionState> it = users.values().iterator();
-            while (it.hasNext()) {
-                UserSessionState state = it.next();
-
-                if (state.getDisconnectAt() > 0 && now - state.getDisconnectAt() > GRACE_MS) {
-                    it.remove();
-                    if (state.getSessionId() != null) {
-                        sessionIndex.remove(state.getSessionId());
-                    }
+    public void expireDisconnected(String roomId, String userId, long disconnectAt) {
+        LobbyRoom room = rooms.get(roomId);
+        if (room == null) return;
 
-                    processUserRemoval(roomId, users, state);
-                    sendUserUpdate(roomId);
-                }
+        Removal removal;
+        synchronized (room) {
+            if (room.closed) return;
+
+            UserSessionState state = room.users.get(userId);
+            if (state == null || state.getDisconnectAt() != disconnectAt) return;
+
+            room.users.remove(userId);
+            room.nicknames.remove(state.getNickname());
+            if (state.getSessionId() != null) {
+                sessionIndex.remove(state.getSessionId());
             }
+            room.changed();
+            removal = detach(room, state);
         }
+
+        applyRemoval(removal);
+        sendUserUpdate(roomId);
+        publishCount(roomId);
+        publishLeft(roomId, removal.removed());
+        removeOrphanBots(roomId, userId);
     }
     /*
         닉네임 중복(2), (3)
+        - 방 락 안에서 호출, 결정된 닉네임은 색인에 등록
     */
-    private String resolveDuplicateNickname(String roomId, String requestedNickname) {
-
-        Map<String, UserSessionState> users = rooms.get(roomId);
-        if (users == null || users.isEmpty()) {
-            return requestedNickname;
-        }
-
-        // 현재 사용 중인 닉네임 목록
-        Set<String> usedNicknames = users.values().stream()
-                .map(UserSessionState::getNickname)
-                .collect(Collectors.toSet());
-
-        // 그대로 사용 가능하면 OK
-        if (!usedNicknames.contains(requestedNickname)) {
-            return requestedNickname;
-        }
-
-        // (2), (3), (4) ...
-        int index = 2;
-        while (true) {
-            String candidate = requestedNickname + "(" + index + ")";
-            if (!usedNicknames.contains(candidate)) {
-                return candidate;
-            }
-            index++;
-        }
+    private String resolveDuplicateNickname(LobbyRoom room, String requestedNickname) {
+        String resolved = room.nicknames.resolve(requestedNickname);
+        room.nicknames.add(resolved);
+        return resolved;
     }
 
     /*
         닉네임 변경
     */
-    @Transactional
-    public synchronized String changeNickname(
+    public String changeNickname(
             String roomId,
             String userId,
             String newNickname
     ) {
-        Map<String, UserSessionState> users = rooms.get(roomId);
-        if (users == null) return null;
+        LobbyRoom room = rooms.get(roomId);
+        if (room == null) return null;
 
-        UserSessionState state = users.get(userId);
-        if (state == null) return null;
+        String resolved = newNickname;
+        boolean host;
 
-        // 🔥 중복 처리 (기존 유저들 기준, 자기 자신 제외)
-        Set<String> usedNicknames = users.values().stream()
-                .filter(u -> !u.getUserId().equals(userId))
-                .map(UserSessionState::getNickname)
-                .collect(Collectors.toSet());
+        synchronized (room) {
+            UserSessionState state = room.users.get(userId);
+            if (state == null) return null;
 
-        String resolved = newNickname;
-        if (usedNicknames.contains(newNickname)) {
-            int index = 2;
-            while (true) {
-                String candidate = newNickname + "(" + index + ")";
-                if (!usedNicknames.contains(candidate)) {
-                    resolved = candidate;
-                    break;
-                }
-                index++;
-            }
-        }
+            // 🔥 중복 처리 (기존 유저들 기준, 자기 자신 제외)
+            room.nicknames.remove(state.getNickname());
+            resolved = resolveDuplicateNickname(room, newNickname);
 
-        state.setNickname(resolved);
+            state.setNickname(resolved);
+            host = state.isHost();
+            room.changed();
+        }
 
         // 방장인 경우 DB도 갱신
-        if (state.isHost()) {
-            lobbyRepository.updateHost(roomId, userId, resolved);
+        if (host) {
+            updateHost(roomId, userId, resolved);
         }
 
+        applicationEvents.publishEvent(RoomMembershipEvent.renamed(roomId, userId, resolved));
+
         // 🔥 로비에 유저 목록 갱신 알림
         sendUserUpdate(roomId);
 
@@ -239,38 +250,98 @@ public class LobbyUserStore {
     }
 
     /* =========================
-       유저 제거 후 처리
+       유저 제거 직후 메모리 처리 (방 락 안에서 호출)
+       - 0명이면 방 닫기
+       - 방장 이탈이면 다음 유저에게 방장 위임
     ========================= */
-    private void processUserRemoval(String roomId,
-                                    Map<String, UserSessionState> users,
-                                    UserSessionState removed) {
+    private Removal detach(LobbyRoom room, UserSessionState removed) {
+        int remainCount = room.users.size();
+
+        if (remainCount == 0) {
+            closeRoom(room);
+            return new Removal(room, removed, 0, null);
+        }
 
-        Lobby lobby = lobbyRepository.findById(roomId).orElse(null);
-        int remainCount = users.size();
+        UserSessionState newHost = null;
+        if (removed != null && removed.isHost()) {
+            newHost = room.users.values().iterator().next();
+            newHost.setHost(true);
+            room.changed();
+        }
+        return new Removal(room, removed, remainCount, newHost);
+    }
+
+    // 방 락 안에서 호출
+    private void closeRoom(LobbyRoom room) {
+        room.closed = true;
+        // 같은 id 로 새로 만들어진 방의 상태는 건드리지 않음
+        if (rooms.remove(room.roomId, room)) {
+            userUpdateBroadcaster.removeRoom(room.roomId);
+            roomClock.cancelRoom(room.roomId);
+            wordChainBots.removeRoom(room.roomId);
+        }
+    }
+
+    private void publishLeft(String roomId, UserSessionState removed) {
+        if (removed == null) return;
+        applicationEvents.publishEvent(RoomMembershipEvent.left(roomId, removed.getUserId(), removed.getNickname()));
+    }
+
+    /*
+        봇 정리
+        - 나간 유저가 봇이면 등록 해제
+        - 사람이 모두 나가고 봇만 남았으면 봇도 전부 내보냄 (마지막 봇이 나가면서 방 삭제)
+    */
+    private void removeOrphanBots(String roomId, String leftUserId) {
+        if (wordChainBots.isBot(roomId, leftUserId)) {
+            wordChainBots.unregister(roomId, leftUserId);
+            return;
+        }
+
+        Map<String, String> bots = wordChainBots.botsIn(roomId);
+        if (bots.isEmpty()) return;
+
+        RoomUsers users = snapshot(roomId);
+        if (users.isEmpty() || !bots.keySet().containsAll(users.userIds())) return;
+
+        for (String botUserId : users.userIds()) {
+            leaveRoom(roomId, botUserId);
+        }
+    }
+
+    /* =========================
+       유저 제거 후 처리 (락 밖: DB / 브로드캐스트)
+    ========================= */
+    private void applyRemoval(Removal removal) {
+
+        String roomId = removal.room().roomId;
+        UserSessionState removed = removal.removed();
+        int remainCount = removal.remainCount();
+
+        Lobby lobby = lobbyService.findLobby(roomId).orElse(null);
 
     /* =========================
        1️⃣ 게임 중 + 1명 이하 → 공통 강제 종료
     ========================= */
         if (lobby != null && lobby.isGameStarted() && remainCount <= 1) {
 
-            messagingTemplate.convertAndSend(
+            eventPublisher.send(
                     "/topic/lobby/" + roomId,
-                    Map.of(
-                            "type", "WORD_CHAIN_END",
-                            "reason", "NOT_ENOUGH_PLAYERS"
-                    )
+                    SocketEvent.WordChainEnd.of("NOT_ENOUGH_PLAYERS")
             );
 
             gameStateManager.removeGame(roomId);
             wordChainGameManager.remove(roomId);
 
-            new Timer().schedule(new TimerTask() {
-                @Override
-                public void run() {
-                    lobbyRepository.deleteById(roomId);
-                    rooms.remove(roomId);
+            // 진행 중이던 라운드 타이머 무효화 후 방 삭제 예약
+            LobbyRoom room = removal.room();
+            roomClock.nextGeneration(roomId);
+            roomClock.schedule(roomId, 300, () -> {
+                deleteLobby(roomId);
+                synchronized (room) {
+                    closeRoom(room);
                 }
-            }, 300);
+            });
 
             return;
         }
@@ -279,11 +350,11 @@ public class LobbyUserStore {
        2️⃣ 대기 중 + 0명 → 조용히 삭제
     ========================= */
         if (remainCount == 0) {
+            // 메모리상 방은 detach 에서 이미 닫힘
             if (lobby != null) {
-                lobbyRepository.deleteById(roomId);
+                deleteLobby(roomId);
                 System.out.println("[Server] 대기 중 0명 방 삭제: " + roomId);
             }
-            rooms.remove(roomId);
             gameStateManager.removeGame(roomId);
             return;
         }
@@ -291,10 +362,9 @@ public class LobbyUserStore {
     /* =========================
        3️⃣ 방장 이탈 → 방장 위임
     ========================= */
-        if (removed != null && removed.isHost()) {
-            UserSessionState next = users.values().iterator().next();
-            next.setHost(true);
-            lobbyRepository.updateHost(
+        UserSessionState next = removal.newHost();
+        if (next != null) {
+            updateHost(
                     roomId,
                     next.getUserId(),
                     next.getNickname()
@@ -302,144 +372,129 @@ public class LobbyUserStore {
         }
 
     /* =========================
-       4️⃣ 게임별 후처리 (턴 이동 등)
+       4️⃣ 게임별 후처리 (출제자 교체 / 턴 이동)
+       - LEFT 이벤트로 SocketController / WordChainGameManager 가 처리
     ========================= */
-        handleGameLogicOnRemoval(
-                roomId,
-                removed != null ? removed.getUserId() : null
-        );
     }
 
     /* =========================
-       출제자 이탈 시 게임 로직
+       USER_UPDATE 전송
     ========================= */
-    private void handleGameLogicOnRemoval(String roomId, String removedUserId) {
-
-        if (removedUserId == null) return;
-
-        GameState state = gameStateManager.getGame(roomId);
-        if (state == null) return;
-
-        if (!removedUserId.equals(state.getDrawerUserId())) return;
+    private void sendUserUpdate(String roomId) {
+        // 이미 닫힌 방은 기준점을 다시 만들지 않음
+        if (!rooms.containsKey(roomId)) return;
 
-        List<Map<String, Object>> users = getUsers(roomId);
-        if (users.size() < 2) {
-            gameStateManager.removeGame(roomId);
-            return;
-        }
+        // 실제 전송은 디바운스 후 변경분(USER_DELTA)으로 나감
+        userUpdateBroadcaster.markDirty(roomId, () -> currentRoster(roomId));
+    }
 
-        String newDrawer = gameStateManager.pickRandomDrawer(users);
-        state.setDrawerUserId(newDrawer);
-
-        // lobby에서 mode 조회
-        String mode = lobbyRepository.findById(roomId)
-                .map(l -> l.getMode())
-                .orElse("RANDOM");
-
-        String newWord = gameStateManager.pickNextWord(state);
-
-        messagingTemplate.convertAndSend("/topic/lobby/" + roomId, Map.of(
-                "type", "DRAWER_CHANGED",
-                "drawerUserId", newDrawer,
-                "word", newWord
-        ));
-
-        new Timer().schedule(new TimerTask() {
-            @Override
-            public void run() {
-                long endTime = System.currentTimeMillis() + 60000;
-                state.setRoundEndTime(endTime);
-                messagingTemplate.convertAndSend("/topic/lobby/" + roomId, Map.of(
-                        "type", "ROUND_START",
-                        "roundEndTime", endTime
-                ));
-            }
-        }, 3000);
+    /*
+        버전 불일치 클라이언트 요청 → 전체 USER_UPDATE 재전송
+    */
+    public void sendUserSnapshot(String roomId) {
+        userUpdateBroadcaster.sendSnapshot(roomId, currentRoster(roomId));
     }
 
-    /* =========================
-       USER_UPDATE 전송
-    ========================= */
-    private void sendUserUpdate(String roomId) {
+    private UserUpdateBroadcaster.Roster currentRoster(String roomId) {
         GameState state = gameStateManager.getGame(roomId);
 
         // ★ 방 정보를 조회해서 현재 방장 ID를 가져옴
-        Lobby lobby = lobbyRepository.findById(roomId).orElse(null);
+        Lobby lobby = lobbyService.findLobby(roomId).orElse(null);
         String hostUserId = (lobby != null) ? lobby.getHostUserId() : null;
 
-        Map<String, Object> payload = new HashMap<>();
-        payload.put("type", "USER_UPDATE");
-        payload.put("users", getUsers(roomId));
-        payload.put("gameStarted", state != null);
-
-        // ★ 메시지에 hostUserId 포함
-        if (hostUserId != null) {
-            payload.put("hostUserId", hostUserId);
-        }
-
-        messagingTemplate.convertAndSend("/topic/lobby/" + roomId, payload);
+        return new UserUpdateBroadcaster.Roster(getUsers(roomId), hostUserId, state != null);
     }
 
-    public synchronized void updateProfile(String roomId, String userId, String newNickname, Object newProfileImage) {
-        Map<String, UserSessionState> users = rooms.get(roomId);
-        if (users == null) return;
+    public void updateProfile(String roomId, String userId, String newNickname, Object newProfileImage) {
+        LobbyRoom room = rooms.get(roomId);
+        if (room == null) return;
+
+        String renamed = null;
+        synchronized (room) {
+            UserSessionState user = room.users.get(userId);
+            if (user == null) return;
 
-        UserSessionState user = users.get(userId);
-        if (user != null) {
             // 닉네임 중복 처리 (본인 닉네임이면 스킵)
             if (!user.getNickname().equals(newNickname)) {
-                String resolved = resolveDuplicateNickname(roomId, newNickname);
-                user.setNickname(resolved);
+                room.nicknames.remove(user.getNickname());
+                renamed = resolveDuplicateNickname(room, newNickname);
+                user.setNickname(renamed);
             }
             // 프로필 이미지 업데이트
             if (newProfileImage != null) {
                 user.setProfileImage(newProfileImage);
             }
+            room.changed();
+        }
 
-            // 변경 사항 즉시 방송
-            sendUserUpdate(roomId);
+        // 변경 사항 즉시 방송
+        sendUserUpdate(roomId);
+
+        if (renamed != null) {
+            applicationEvents.publishEvent(RoomMembershipEvent.renamed(roomId, userId, renamed));
         }
     }
 
     /* =========================
        유저 목록 반환
+       - 변경이 없으면 캐시된 불변 스냅샷을 그대로 반환 (정렬 / Map 생성 없음)
     ========================= */
+    public RoomUsers snapshot(String roomId) {
+
+        LobbyRoom room = rooms.get(roomId);
+        if (room == null) return RoomUsers.EMPTY;
+
+        RoomUsers snapshot = room.snapshot;
+        if (snapshot != null) return snapshot;
+
+        synchronized (room) {
+            if (room.snapshot == null) {
+                room.snapshot = RoomUsers.of(room.revision, room.users.values());
+            }
+            return room.snapshot;
+        }
+    }
+
     public List<Map<String, Object>> getUsers(String roomId) {
+        return snapshot(roomId).users();
+    }
 
-        Map<String, UserSessionState> users = rooms.get(roomId);
-        if (users == null) return List.of();
-
-        return users.values().stream()
-                .sorted((a, b) -> {
-                    if (a.isHost() && !b.isHost()) return -1;
-                    if (!a.isHost() && b.isHost()) return 1;
-                    return Long.compare(a.getJoinedAt(), b.getJoinedAt());
-                })
-                .map(u -> Map.<String, Object>of(
-                        "userId", u.getUserId(),
-                        "nickname", u.getNickname(),
-                        "host", u.isHost(),
-                        "score", u.getScore(),
-                        "profileImage", u.getProfileImage() != null ? u.getProfileImage() : "default" // ★ 추가됨
-                ))
-                .collect(Collectors.toList());
+    public int getUserCount(String roomId) {
+        return snapshot(roomId).count();
+    }
+
+    public String getNickname(String roomId, String userId) {
+        return snapshot(roomId).nicknameOf(userId);
+    }
+
+    public List<String> getUserIds(String roomId) {
+        return snapshot(roomId).userIds();
     }
 
     /* =========================
        점수 추가
     ========================= */
     public void addScore(String roomId, String userId, int score) {
-        Map<String, UserSessionState> users = rooms.get(roomId);
-        if (users == null) return;
+        LobbyRoom room = rooms.get(roomId);
+        if (room == null) return;
 
-        UserSessionState user = users.get(userId);
-        if (user != null) {
+        synchronized (room) {
+            UserSessionState user = room.users.get(userId);
+            if (user == null) return;
             user.setScore(user.getScore() + score);
+            room.changed();
         }
+        sendUserUpdate(roomId);
     }
 
-    public synchronized void removeRoom(String roomId) {
-        rooms.remove(roomId);
+    public void removeRoom(String roomId) {
+        LobbyRoom room = rooms.get(roomId);
+        if (room != null) {
+            synchronized (room) {
+                closeRoom(room);
+            }
+        }
         gameStateManager.removeGame(roomId);
+        publishCount(roomId);
     }
 }
@@ -0,0 +1,78 @@
+package com.example.drawIt.Socket;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/*
+    방 하나의 닉네임 색인 (방 락 안에서만 사용)
+    - taken: 사용 중인 닉네임 전체
+    - suffixes: 기본 이름 → 사용 중인 "(n)" 번호 비트셋 (n >= 2)
+    - 중복 시 nextClearBit 로 비어 있는 가장 작은 번호를 바로 찾음
+*/
+class NicknameIndex {
+
+    private static final int FIRST_SUFFIX = 2;
+
+    private final Set<String> taken = new HashSet<>();
+    private final Map<String, BitSet> suffixes = new HashMap<>();
+
+    // 요청한 닉네임이 비어 있으면 그대로, 아니면 name(2), name(3) ... 중 가장 작은 빈 번호
+    String resolve(String requested) {
+        if (!taken.contains(requested)) {
+            return requested;
+        }
+        BitSet used = suffixes.get(requested);
+        int suffix = used == null ? FIRST_SUFFIX : used.nextClearBit(FIRST_SUFFIX);
+        return requested + "(" + suffix + ")";
+    }
+
+    void add(String nickname) {
+        if (nickname == null || !taken.add(nickname)) return;
+
+        int open = suffixStart(nickname);
+        if (open < 0) return;
+        suffixes.computeIfAbsent(nickname.substring(0, open), k -> new BitSet())
+                .set(suffixOf(nickname, open));
+    }
+
+    void remove(String nickname) {
+        if (nickname == null || !taken.remove(nickname)) return;
+
+        int open = suffixStart(nickname);
+        if (open < 0) return;
+        String base = nickname.substring(0, open);
+        BitSet used = suffixes.get(base);
+        if (used != null) {
+            used.clear(suffixOf(nickname, open));
+            if (used.isEmpty()) {
+                suffixes.remove(base);
+            }
+        }
+    }
+
+    /*
+        "이름(숫자)" 형태면 '(' 위치, 아니면 -1
+        - 번호는 2 이상, 앞자리 0 없음 (resolve 가 만드는 형태만 인정)
+    */
+    private static int suffixStart(String nickname) {
+        int len = nickname.length();
+        if (len < 4 || nickname.charAt(len - 1) != ')') return -1;
+
+        int open = nickname.lastIndexOf('(', len - 2);
+        if (open <= 0 || open == len - 2 || len - open - 2 > 9) return -1;
+        if (nickname.charAt(open + 1) == '0') return -1;
+
+        for (int i = open + 1; i < len - 1; i++) {
+            char c = nickname.charAt(i);
+            if (c < '0' || c > '9') return -1;
+        }
+        return suffixOf(nickname, open) >= FIRST_SUFFIX ? open : -1;
+    }
+
+    private static int suffixOf(String nickname, int open) {
+        return Integer.parseInt(nickname, open + 1, nickname.length() - 1, 10);
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.drawIt.Socket;
+
+/*
+    방 인원 변경 이벤트 (LobbyUserStore → ApplicationEventPublisher)
+    - 방 락을 놓은 뒤 발행, 리스너는 동기로 호출됨
+    - 재접속(F5)은 인원 변경이 아니므로 발행하지 않음
+    - nickname: JOINED / RENAMED 는 새 닉네임, LEFT 는 나간 유저의 닉네임
+*/
+public record RoomMembershipEvent(String roomId, Type type, String userId, String nickname) {
+
+    public enum Type {
+        JOINED,
+        LEFT,
+        RENAMED
+    }
+
+    public static RoomMembershipEvent joined(String roomId, String userId, String nickname) {
+        return new RoomMembershipEvent(roomId, Type.JOINED, userId, nickname);
+    }
+
+    public static RoomMembershipEvent left(String roomId, String userId, String nickname) {
+        return new RoomMembershipEvent(roomId, Type.LEFT, userId, nickname);
+    }
+
+    public static RoomMembershipEvent renamed(String roomId, String userId, String nickname) {
+        return new RoomMembershipEvent(roomId, Type.RENAMED, userId, nickname);
+    }
+}
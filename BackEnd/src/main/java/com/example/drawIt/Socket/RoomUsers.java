@@ -0,0 +1,90 @@
+package com.example.drawIt.Socket;
+
+import java.util.*;
+
+/*
+    방 유저 목록 스냅샷 (불변)
+    - 방장 우선, 입장 순으로 정렬된 상태로 한 번만 만들어 둠
+    - 입장 / 퇴장 / 닉네임 / 프로필 / 점수 / 방장 변경 시에만 다시 생성 (LobbyRoom.changed)
+    - revision 은 방 단위 변경 횟수
+*/
+public final class RoomUsers {
+
+    static final RoomUsers EMPTY = new RoomUsers(0, List.of(), List.of(), Map.of());
+
+    private static final Comparator<UserSessionState> ORDER = (a, b) -> {
+        if (a.isHost() && !b.isHost()) return -1;
+        if (!a.isHost() && b.isHost()) return 1;
+        return Long.compare(a.getJoinedAt(), b.getJoinedAt());
+    };
+
+    private final long revision;
+    private final List<Map<String, Object>> users;
+    private final List<String> userIds;
+    private final Map<String, String> nicknames;
+
+    private RoomUsers(long revision, List<Map<String, Object>> users,
+                      List<String> userIds, Map<String, String> nicknames) {
+        this.revision = revision;
+        this.users = users;
+        this.userIds = userIds;
+        this.nicknames = nicknames;
+    }
+
+    // 방 락 안에서 호출
+    static RoomUsers of(long revision, Collection<UserSessionState> states) {
+        List<UserSessionState> sorted = new ArrayList<>(states);
+        sorted.sort(ORDER);
+
+        List<Map<String, Object>> users = new ArrayList<>(sorted.size());
+        List<String> userIds = new ArrayList<>(sorted.size());
+        Map<String, String> nicknames = new HashMap<>(sorted.size() * 2);
+
+        for (UserSessionState u : sorted) {
+            users.add(Map.of(
+                    "userId", u.getUserId(),
+                    "nickname", u.getNickname(),
+                    "host", u.isHost(),
+                    "score", u.getScore(),
+                    "profileImage", u.getProfileImage() != null ? u.getProfileImage() : "default"
+            ));
+            userIds.add(u.getUserId());
+            nicknames.put(u.getUserId(), u.getNickname());
+        }
+
+        return new RoomUsers(
+                revision,
+                Collections.unmodifiableList(users),
+                Collections.unmodifiableList(userIds),
+                Collections.unmodifiableMap(nicknames)
+        );
+    }
+
+    public long revision() {
+        return revision;
+    }
+
+    public List<Map<String, Object>> users() {
+        return users;
+    }
+
+    public List<String> userIds() {
+        return userIds;
+    }
+
+    public int count() {
+        return userIds.size();
+    }
+
+    public boolean isEmpty() {
+        return userIds.isEmpty();
+    }
+
+    public boolean contains(String userId) {
+        return nicknames.containsKey(userId);
+    }
+
+    public String nicknameOf(String userId) {
+        return nicknames.get(userId);
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.drawIt.Socket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+    소켓 브로드캐스트 전용 발행기
+    - 페이로드 타입별 ObjectWriter 를 한 번만 만들어 재사용
+    - 직렬화된 byte[] 를 그대로 브로커로 넘겨 메시지 컨버터를 거치지 않음
+    - sendToSession: 한 세션에만 (/user/{sessionId}/queue/... → 클라이언트는 /user/queue/... 구독)
+*/
+@Component
+@RequiredArgsConstructor
+public class SocketEventPublisher {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    public void send(String destination, Object payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+
+        messagingTemplate.send(destination, MessageBuilder.createMessage(serialize(payload), accessor.getMessageHeaders()));
+    }
+
+    /*
+        한 세션에만 전송 (destination 예: "/queue/wordchain")
+        - 세션 id 를 사용자 자리에 두고 simpSessionId 헤더도 같은 값 → 그 세션의 구독으로만 전달
+        - Principal 없이 동작 (이 서버는 인증 사용자 대신 세션 단위로 구분)
+    */
+    public void sendToSession(String sessionId, String destination, Object payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setSessionId(sessionId);
+        accessor.setLeaveMutable(true);
+
+        messagingTemplate.send("/user/" + sessionId + destination,
+                MessageBuilder.createMessage(serialize(payload), accessor.getMessageHeaders()));
+    }
+
+    private byte[] serialize(Object payload) {
+        try {
+            return writerFor(payload.getClass()).writeValueAsBytes(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("소켓 페이로드 직렬화 실패: " + payload.getClass().getSimpleName(), e);
+        }
+    }
+
+    private ObjectWriter writerFor(Class<?> type) {
+        return writers.computeIfAbsent(type, objectMapper::writerFor);
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.drawIt.Socket;
+
+import com.example.drawIt.DTO.SocketEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/*
+    USER_UPDATE 델타 브로드캐스터
+    - 방마다 마지막으로 보낸 유저 목록(기준점)과 버전을 유지
+    - 변경 요청은 DEBOUNCE_MS 동안 모아서 USER_DELTA 한 번으로 전송
+    - 기준점이 없으면 전체 USER_UPDATE 로 대체
+*/
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserUpdateBroadcaster {
+
+    // 짧은 시간 내 연속 변경(입장 폭주, 점수 2건 등)을 하나로 묶는 구간
+    private static final long DEBOUNCE_MS = 100;
+
+    private final SocketEventPublisher eventPublisher;
+    private final TaskScheduler taskScheduler;
+
+    private final Map<String, RoomBaseline> baselines = new ConcurrentHashMap<>();
+
+    /* =========================
+       전송 시점의 방 유저 상태
+    ========================= */
+    public record Roster(List<Map<String, Object>> users, String hostUserId, boolean gameStarted) {}
+
+    private static class RoomBaseline {
+        long version;
+        Map<String, Map<String, Object>> usersById = new LinkedHashMap<>();
+        Supplier<Roster> pending;
+    }
+
+    /*
+        전체 스냅샷을 직접 보낸 경우 기준점을 갱신하고 새 버전을 돌려줌
+    */
+    public long recordSnapshot(String roomId, List<Map<String, Object>> users) {
+        RoomBaseline baseline = baselines.computeIfAbsent(roomId, k -> new RoomBaseline());
+        synchronized (baseline) {
+            baseline.version++;
+            baseline.usersById = indexById(users);
+            return baseline.version;
+        }
+    }
+
+    /*
+        변경 발생 알림 (디바운스)
+        - rosterSupplier 는 실제 전송 시점에 호출되어 최신 상태를 반영
+    */
+    public void markDirty(String roomId, Supplier<Roster> rosterSupplier) {
+        RoomBaseline baseline = baselines.computeIfAbsent(roomId, k -> new RoomBaseline());
+        synchronized (baseline) {
+            boolean scheduled = baseline.pending != null;
+            baseline.pending = rosterSupplier;
+            if (scheduled) return;
+        }
+        taskScheduler.schedule(() -> flush(roomId), Instant.now().plusMillis(DEBOUNCE_MS));
+    }
+
+    /*
+        버전 불일치 시 클라이언트 요청으로 전체 스냅샷 재전송
+    */
+    public void sendSnapshot(String roomId, Roster roster) {
+        long version = recordSnapshot(roomId, roster.users());
+        eventPublisher.send("/topic/lobby/" + roomId, new SocketEvent.UserUpdate(
+                roster.users(), roster.hostUserId(), roster.gameStarted(),
+                null, null, null, null, version
+        ));
+    }
+
+    public void removeRoom(String roomId) {
+        baselines.remove(roomId);
+    }
+
+    private void flush(String roomId) {
+        RoomBaseline baseline = baselines.get(roomId);
+        if (baseline == null) return;
+
+        Supplier<Roster> supplier;
+        synchronized (baseline) {
+            supplier = baseline.pending;
+            baseline.pending = null;
+        }
+        if (supplier == null) return;
+
+        try {
+            Roster roster = supplier.get();
+            SocketEvent event;
+
+            synchronized (baseline) {
+                if (baseline.version == 0) {
+                    // 아직 아무도 기준점을 받지 못한 방 → 전체 전송
+                    baseline.version++;
+                    baseline.usersById = indexById(roster.users());
+                    event = new SocketEvent.UserUpdate(
+                            roster.users(), roster.hostUserId(), roster.gameStarted(),
+                            null, null, null, null, baseline.version
+                    );
+                } else {
+                    event = diff(baseline, roster);
+                }
+            }
+
+            eventPublisher.send("/topic/lobby/" + roomId, event);
+        } catch (Exception e) {
+            log.error("[Server] user update flush failed: room={}", roomId, e);
+        }
+    }
+
+    /* =========================
+       기준점 대비 변경분 계산
+    ========================= */
+    private SocketEvent.UserDelta diff(RoomBaseline baseline, Roster roster) {
+        Map<String, Map<String, Object>> previous = baseline.usersById;
+        Map<String, Map<String, Object>> current = indexById(roster.users());
+
+        List<Map<String, Object>> added = new ArrayList<>();
+        List<SocketEvent.UserChange> changed = new ArrayList<>();
+        List<String> removed = new ArrayList<>();
+
+        for (Map.Entry<String, Map<String, Object>> e : current.entrySet()) {
+            Map<String, Object> before = previous.get(e.getKey());
+            if (before == null) {
+                added.add(e.getValue());
+                continue;
+            }
+            SocketEvent.UserChange change = SocketEvent.UserChange.between(e.getKey(), before, e.getValue());
+            if (change != null) changed.add(change);
+        }
+
+        for (String userId : previous.keySet()) {
+            if (!current.containsKey(userId)) removed.add(userId);
+        }
+
+        // 클라이언트는 기존 순서 유지 + 신규 유저를 뒤에 붙임
+        // 방장 변경 등으로 결과 순서가 달라지는 경우에만 순서 전달
+        List<String> order = new ArrayList<>(current.keySet());
+        List<String> expectedOrder = new ArrayList<>(previous.keySet());
+        expectedOrder.removeAll(removed);
+        for (Map<String, Object> u : added) {
+            expectedOrder.add(String.valueOf(u.get("userId")));
+        }
+        boolean orderChanged = !expectedOrder.equals(order);
+
+        long baseVersion = baseline.version;
+        baseline.version++;
+        baseline.usersById = current;
+
+        return new SocketEvent.UserDelta(
+                baseline.version,
+                baseVersion,
+                added.isEmpty() ? null : added,
+                removed.isEmpty() ? null : removed,
+                changed.isEmpty() ? null : changed,
+                orderChanged ? order : null,
+                roster.hostUserId(),
+                roster.gameStarted()
+        );
+    }
+
+    private Map<String, Map<String, Object>> indexById(List<Map<String, Object>> users) {
+        Map<String, Map<String, Object>> byId = new LinkedHashMap<>();
+        for (Map<String, Object> u : users) {
+            byId.put(String.valueOf(u.get("userId")), u);
+        }
+        return byId;
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.drawIt.Socket;
+
+import com.example.drawIt.Config.DeflateHandshakeHandler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+import org.springframework.web.socket.sockjs.transport.SockJsSession;
+import org.springframework.web.socket.sockjs.transport.session.WebSocketServerSockJsSession;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+    전송 방식별 WebSocket 메트릭
+    - transport: websocket(네이티브) / sockjs-websocket / sockjs-http(xhr-streaming, polling 등)
+    - deflate: permessage-deflate 협상 여부
+    - 바이트 수는 압축 전 애플리케이션 페이로드 기준
+*/
+@Component
+@RequiredArgsConstructor
+public class WebSocketTransportMetrics implements WebSocketHandlerDecoratorFactory {
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, AtomicInteger> activeSessions = new ConcurrentHashMap<>();
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+
+            private final Map<String, MeteredSession> sessions = new ConcurrentHashMap<>();
+
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                MeteredSession metered = new MeteredSession(session);
+                sessions.put(session.getId(), metered);
+                metered.active.incrementAndGet();
+                super.afterConnectionEstablished(metered);
+            }
+
+            @Override
+            public void handleMessage(WebSocketSession session, WebSocketMessage<?> message) throws Exception {
+                MeteredSession metered = sessions.get(session.getId());
+                if (metered != null) {
+                    metered.bytesIn.increment(message.getPayloadLength());
+                }
+                super.handleMessage(metered != null ? metered : session, message);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                MeteredSession metered = sessions.remove(session.getId());
+                if (metered != null) {
+                    metered.active.decrementAndGet();
+                }
+                super.afterConnectionClosed(metered != null ? metered : session, closeStatus);
+            }
+        };
+    }
+
+    private static String transportOf(WebSocketSession session) {
+        if (session instanceof WebSocketServerSockJsSession) return "sockjs-websocket";
+        if (session instanceof SockJsSession) return "sockjs-http";
+        return "websocket";
+    }
+
+    private static boolean deflateNegotiated(WebSocketSession session) {
+        return session.getExtensions().stream()
+                .anyMatch(ext -> DeflateHandshakeHandler.PERMESSAGE_DEFLATE.equalsIgnoreCase(ext.getName()));
+    }
+
+    /* =========================
+       세션 단위로 미터를 한 번만 조회해서 보관
+    ========================= */
+    private class MeteredSession extends WebSocketSessionDecorator {
+
+        final Counter bytesIn;
+        final Counter bytesOut;
+        final DistributionSummary frameSize;
+        final AtomicInteger active;
+
+        MeteredSession(WebSocketSession session) {
+            super(session);
+            String transport = transportOf(session);
+            Tags tags = Tags.of("transport", transport, "deflate", String.valueOf(deflateNegotiated(session)));
+
+            this.bytesIn = meterRegistry.counter("drawit.ws.bytes", tags.and("direction", "in"));
+            this.bytesOut = meterRegistry.counter("drawit.ws.bytes", tags.and("direction", "out"));
+            this.frameSize = DistributionSummary.builder("drawit.ws.frame.size")
+                    .description("Outbound STOMP frame size before compression")
+                    .baseUnit("bytes")
+                    .tags(tags)
+                    .publishPercentiles(0.5, 0.95)
+                    .register(meterRegistry);
+            this.active = activeSessions.computeIfAbsent(transport, t ->
+                    meterRegistry.gauge("drawit.ws.sessions", Tags.of("transport", t), new AtomicInteger()));
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            int length = message.getPayloadLength();
+            bytesOut.increment(length);
+            frameSize.record(length);
+            super.sendMessage(message);
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.example.drawIt.Domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DictionarySnapshotTest {
+
+	private static DictionarySnapshot snapshot(long firstId, String... words) {
+		long[] ids = new long[words.length];
+		for (int i = 0; i < words.length; i++) ids[i] = firstId + i;
+		return DictionarySnapshot.build(ids, words, words.length);
+	}
+
+	private static List<String> words(DictionarySnapshot snapshot) {
+		List<String> result = new ArrayList<>();
+		for (int i = 0; i < snapshot.size(); i++) result.add(snapshot.wordAt(i));
+		return result;
+	}
+
+	@Test
+	void buildSortsAndKeepsFirstDuplicate() {
+		DictionarySnapshot snapshot = snapshot(1, "사과", "기차", "사과", "바나나");
+
+		assertEquals(List.of("기차", "바나나", "사과"), words(snapshot));
+		assertEquals(1, snapshot.idAt(snapshot.indexOf("사과")));
+		assertEquals(4, snapshot.maxId());
+	}
+
+	@Test
+	void containsFindsEveryStoredWordAndNothingElse() {
+		String[] stored = new String[2000];
+		for (int i = 0; i < stored.length; i++) stored[i] = "단어" + i;
+		DictionarySnapshot snapshot = snapshot(1, stored);
+
+		for (String word : stored) {
+			assertTrue(snapshot.contains(word), word);
+		}
+		for (int i = stored.length; i < stored.length * 2; i++) {
+			assertFalse(snapshot.contains("단어" + i));
+		}
+		assertFalse(snapshot.contains(""));
+		assertFalse(snapshot.contains(null));
+		assertFalse(DictionarySnapshot.EMPTY.contains("단어"));
+	}
+
+	@Test
+	void plusMatchesBuildingTheUnion() {
+		Random random = new Random(7);
+		for (int round = 0; round < 100; round++) {
+			int oldCount = random.nextInt(60);
+			int newCount = random.nextInt(30);
+			long[] ids = new long[oldCount + newCount];
+			String[] all = new String[oldCount + newCount];
+			for (int i = 0; i < all.length; i++) {
+				ids[i] = i + 1;
+				all[i] = "w" + random.nextInt(80);
+			}
+
+			DictionarySnapshot base = DictionarySnapshot.build(ids, all, oldCount);
+			long[] newIds = new long[newCount];
+			String[] newWords = new String[newCount];
+			System.arraycopy(ids, oldCount, newIds, 0, newCount);
+			System.arraycopy(all, oldCount, newWords, 0, newCount);
+
+			DictionarySnapshot merged = base.plus(newIds, newWords, newCount);
+			DictionarySnapshot expected = DictionarySnapshot.build(ids, all, all.length);
+
+			assertEquals(words(expected), words(merged));
+			for (int i = 0; i < expected.size(); i++) {
+				assertEquals(expected.idAt(i), merged.idAt(i));
+				assertTrue(merged.contains(expected.wordAt(i)));
+			}
+			assertEquals(expected.maxId(), merged.maxId());
+		}
+	}
+
+	@Test
+	void plusKeepsExistingIdAndSkipsKnownWords() {
+		DictionarySnapshot base = snapshot(1, "기차", "사과");
+
+		assertSame(base, base.plus(new long[]{10}, new String[]{"사과"}, 1));
+
+		DictionarySnapshot merged = base.plus(new long[]{10, 11}, new String[]{"사과", "나무"}, 2);
+		assertEquals(List.of("기차", "나무", "사과"), words(merged));
+		assertEquals(2, merged.idAt(merged.indexOf("사과")));
+		assertEquals(11, merged.maxId());
+	}
+
+	@Test
+	void plusBeyondBloomHeadroomStillFindsEveryWord() {
+		DictionarySnapshot snapshot = snapshot(1, "가");
+		TreeMap<String, Long> expected = new TreeMap<>();
+		expected.put("가", 1L);
+		long id = 2;
+		for (int step = 0; step < 20; step++) {
+			String[] added = new String[50];
+			long[] addedIds = new long[added.length];
+			for (int i = 0; i < added.length; i++) {
+				added[i] = "단어" + step + "-" + i;
+				addedIds[i] = id;
+				expected.put(added[i], id++);
+			}
+			snapshot = snapshot.plus(addedIds, added, added.length);
+		}
+
+		assertEquals(new ArrayList<>(expected.keySet()), words(snapshot));
+		for (String word : expected.keySet()) {
+			assertTrue(snapshot.contains(word), word);
+		}
+		assertFalse(snapshot.contains("단어20-0"));
+	}
+
+	@Test
+	void ordinalsAreDenseInInputOrderEvenWithIdGaps() {
+		DictionarySnapshot snapshot = DictionarySnapshot.build(
+				new long[]{5, 900, 901, 4_000_000_000L}, new String[]{"사과", "기차", "사과", "바나나"}, 4);
+
+		assertEquals(3, snapshot.ordinalCount());
+		assertEquals(0, snapshot.ordinalAt(snapshot.indexOf("사과")));
+		assertEquals(1, snapshot.ordinalAt(snapshot.indexOf("기차")));
+		assertEquals(2, snapshot.ordinalAt(snapshot.indexOf("바나나")));
+	}
+
+	@Test
+	void plusAppendsOrdinalsForNewWordsOnly() {
+		DictionarySnapshot base = snapshot(1, "기차", "사과");
+		DictionarySnapshot merged = base.plus(new long[]{10, 11, 12}, new String[]{"사과", "나무", "가방"}, 3);
+
+		assertEquals(4, merged.ordinalCount());
+		assertEquals(0, merged.ordinalAt(merged.indexOf("기차")));
+		assertEquals(1, merged.ordinalAt(merged.indexOf("사과")));
+		int tree = merged.ordinalAt(merged.indexOf("나무"));
+		int bag = merged.ordinalAt(merged.indexOf("가방"));
+		assertTrue(tree >= 2 && bag >= 2 && tree != bag);
+	}
+
+	@Test
+	void reloadKeepsOrdinalsOfSurvivingWords() {
+		DictionarySnapshot previous = snapshot(1, "기차", "사과", "나무");
+		// 나무 삭제, 가방 / 하늘 추가, 순서도 바뀐 전체 재적재
+		DictionarySnapshot reloaded = snapshot(1, "하늘", "사과", "가방", "기차")
+				.withOrdinalsOf(previous);
+
+		assertEquals(0, reloaded.ordinalAt(reloaded.indexOf("기차")));
+		assertEquals(1, reloaded.ordinalAt(reloaded.indexOf("사과")));
+		int bag = reloaded.ordinalAt(reloaded.indexOf("가방"));
+		int sky = reloaded.ordinalAt(reloaded.indexOf("하늘"));
+		assertTrue(bag >= 3 && sky >= 3 && bag != sky);
+		assertEquals(5, reloaded.ordinalCount());
+		assertTrue(reloaded.contains("하늘"));
+	}
+
+	@Test
+	void firstCharacterBucketsCoverContiguousRanges() {
+		DictionarySnapshot snapshot = snapshot(1, "사과", "기차", "사자", "바나나", "기린", "사슴");
+
+		assertEquals(2, snapshot.countStartingWith('기'));
+		assertEquals(1, snapshot.countStartingWith('바'));
+		assertEquals(3, snapshot.countStartingWith('사'));
+		assertEquals(0, snapshot.countStartingWith('나'));
+		assertEquals(-1, snapshot.randomStartingWith('나', new Random(1)));
+
+		Random random = new Random(1);
+		for (int i = 0; i < 50; i++) {
+			assertTrue(snapshot.wordAt(snapshot.randomStartingWith('사', random)).startsWith("사"));
+		}
+	}
+
+	@Test
+	void bucketsFollowMergedWords() {
+		DictionarySnapshot merged = snapshot(1, "기차", "사과")
+				.plus(new long[]{3, 4}, new String[]{"나무", "기린"}, 2);
+
+		assertEquals(2, merged.countStartingWith('기'));
+		assertEquals(1, merged.countStartingWith('나'));
+		assertEquals(1, merged.countStartingWith('사'));
+	}
+
+	@Test
+	void unusedPickSkipsUsedOrdinals() {
+		DictionarySnapshot snapshot = snapshot(1, "사과", "사자", "사슴");
+		BitSet used = new BitSet();
+		used.set(snapshot.ordinalAt(snapshot.indexOf("사과")));
+		used.set(snapshot.ordinalAt(snapshot.indexOf("사슴")));
+
+		Random random = new Random(3);
+		for (int i = 0; i < 20; i++) {
+			assertEquals("사자", snapshot.wordAt(snapshot.randomUnusedStartingWith('사', random, used)));
+			assertEquals("사자", snapshot.wordAt(snapshot.rankedUnusedStartingWith('사', random, used, 3)));
+		}
+
+		used.set(snapshot.ordinalAt(snapshot.indexOf("사자")));
+		assertEquals(-1, snapshot.randomUnusedStartingWith('사', random, used));
+		assertEquals(-1, snapshot.rankedUnusedStartingWith('사', random, used, 3));
+	}
+
+	@Test
+	void rankedPrefersWordsWithMoreContinuations() {
+		// "기차" → 차로 시작하는 단어 2개, "기린" → 린으로 시작하는 단어 없음
+		DictionarySnapshot snapshot = snapshot(1, "기차", "기린", "차표", "차도");
+
+		Random random = new Random(5);
+		for (int i = 0; i < 20; i++) {
+			assertEquals("기차", snapshot.wordAt(snapshot.rankedUnusedStartingWith('기', random, new BitSet(), 1)));
+		}
+	}
+}
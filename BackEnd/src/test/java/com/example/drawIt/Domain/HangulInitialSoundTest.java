@@ -0,0 +1,58 @@
+package com.example.drawIt.Domain;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HangulInitialSoundTest {
+
+	@Test
+	void sameCharacterAlwaysFollows() {
+		assertTrue(HangulInitialSound.canFollow('차', '차'));
+		assertTrue(HangulInitialSound.canFollow('A', 'A'));
+	}
+
+	@Test
+	void rieulBecomesIeungBeforeYAndI() {
+		assertTrue(HangulInitialSound.canFollow('력', '역'));
+		assertTrue(HangulInitialSound.canFollow('룡', '용'));
+		assertTrue(HangulInitialSound.canFollow('리', '이'));
+	}
+
+	@Test
+	void rieulBecomesNieunBeforeOtherVowels() {
+		assertTrue(HangulInitialSound.canFollow('락', '낙'));
+		assertTrue(HangulInitialSound.canFollow('로', '노'));
+		assertFalse(HangulInitialSound.canFollow('락', '악'));
+	}
+
+	@Test
+	void nieunBecomesIeungBeforeYAndI() {
+		assertTrue(HangulInitialSound.canFollow('녀', '여'));
+		assertTrue(HangulInitialSound.canFollow('뇨', '요'));
+		assertFalse(HangulInitialSound.canFollow('나', '아'));
+	}
+
+	@Test
+	void finalConsonantIsKept() {
+		assertEquals('역', HangulInitialSound.variantOf('력'));
+		assertEquals('영', HangulInitialSound.variantOf('령'));
+		assertFalse(HangulInitialSound.canFollow('력', '여'));
+	}
+
+	@Test
+	void ruleIsOneWay() {
+		assertFalse(HangulInitialSound.canFollow('역', '력'));
+		assertFalse(HangulInitialSound.canFollow('노', '로'));
+	}
+
+	@Test
+	void nonSyllablesHaveNoVariant() {
+		assertEquals(0, HangulInitialSound.variantOf('a'));
+		assertEquals(0, HangulInitialSound.variantOf('ㄹ'));
+		assertEquals(0, HangulInitialSound.variantOf('가'));
+		assertFalse(HangulInitialSound.canFollow('가', (char) 0));
+	}
+}
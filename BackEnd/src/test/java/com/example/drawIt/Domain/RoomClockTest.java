@@ -0,0 +1,127 @@
+package com.example.drawIt.Domain;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RoomClockTest {
+
+	private RoomExecutor roomExecutor;
+	private RoomClock roomClock;
+
+	@BeforeEach
+	void setUp() {
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		roomExecutor = new RoomExecutor(meterRegistry);
+		roomExecutor.start();
+		roomClock = new RoomClock(roomExecutor, meterRegistry);
+		roomClock.start();
+	}
+
+	@AfterEach
+	void tearDown() {
+		roomClock.stop();
+		roomExecutor.stop();
+	}
+
+	// 마지막으로 예약한 타이머가 실행될 때까지 대기 (같은 방이면 같은 샤드에서 순서대로)
+	private void awaitMarker(String roomId, long delayMs) throws InterruptedException {
+		CountDownLatch done = new CountDownLatch(1);
+		roomClock.schedule(roomId, delayMs, done::countDown);
+		assertTrue(done.await(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	void firesInDeadlineOrderAndNotEarly() throws InterruptedException {
+		List<String> fired = new CopyOnWriteArrayList<>();
+		long started = System.nanoTime();
+		long[] firstAt = new long[1];
+
+		roomClock.schedule("room", 200, () -> fired.add("late"));
+		roomClock.schedule("room", 50, () -> {
+			firstAt[0] = System.nanoTime();
+			fired.add("early");
+		});
+		awaitMarker("room", 300);
+
+		assertEquals(List.of("early", "late"), fired);
+		assertTrue(TimeUnit.NANOSECONDS.toMillis(firstAt[0] - started) >= 50);
+	}
+
+	@Test
+	void nextGenerationDropsEarlierTimers() throws InterruptedException {
+		List<String> fired = new CopyOnWriteArrayList<>();
+
+		roomClock.schedule("room", 50, () -> fired.add("old"));
+		roomClock.nextGeneration("room");
+		roomClock.schedule("room", 50, () -> fired.add("new"));
+		awaitMarker("room", 150);
+
+		assertEquals(List.of("new"), fired);
+	}
+
+	@Test
+	void generationIsPerRoom() throws InterruptedException {
+		List<String> fired = new CopyOnWriteArrayList<>();
+
+		roomClock.schedule("other", 50, () -> fired.add("other"));
+		roomClock.nextGeneration("room");
+		awaitMarker("other", 150);
+
+		assertEquals(List.of("other"), fired);
+	}
+
+	@Test
+	void cancelledTimerDoesNotRun() throws InterruptedException {
+		List<String> fired = new CopyOnWriteArrayList<>();
+
+		RoomClock.Timeout timeout = roomClock.schedule("room", 50, () -> fired.add("cancelled"));
+		timeout.cancel();
+		awaitMarker("room", 150);
+
+		assertTrue(timeout.isCancelled());
+		assertTrue(fired.isEmpty());
+	}
+
+	@Test
+	void cancelRoomDropsAllPendingTimers() throws InterruptedException {
+		List<String> fired = new CopyOnWriteArrayList<>();
+
+		RoomClock.Timeout first = roomClock.schedule("room", 50, () -> fired.add("first"));
+		roomClock.schedule("room", 1_000, () -> fired.add("second"));
+		roomClock.cancelRoom("room");
+		awaitMarker("room", 100);
+
+		assertTrue(first.isCancelled());
+		assertTrue(fired.isEmpty());
+	}
+
+	@Test
+	void taskRunsOnTheRoomShard() throws InterruptedException {
+		String[] timerThread = new String[1];
+		String[] shardThread = new String[1];
+		CountDownLatch done = new CountDownLatch(2);
+
+		roomClock.schedule("room", 10, () -> {
+			timerThread[0] = Thread.currentThread().getName();
+			done.countDown();
+		});
+		roomExecutor.execute("room", () -> {
+			shardThread[0] = Thread.currentThread().getName();
+			done.countDown();
+		});
+
+		assertTrue(done.await(5, TimeUnit.SECONDS));
+		assertEquals(shardThread[0], timerThread[0]);
+		assertTrue(timerThread[0].startsWith("room-shard-"));
+	}
+}
@@ -0,0 +1,114 @@
+package com.example.drawIt.Domain;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WordChainBotsTest {
+
+	private final List<Runnable> scheduled = new ArrayList<>();
+	private final List<Message<?>> submitted = new ArrayList<>();
+	private WordChainBots bots;
+	private WordChainState state;
+
+	@BeforeEach
+	void setUp() {
+		// 제출 예약은 테스트에서 직접 실행
+		RoomClock roomClock = new RoomClock(null, null) {
+			@Override
+			public Timeout schedule(String roomId, long delayMs, Runnable task) {
+				scheduled.add(task);
+				return null;
+			}
+		};
+		long[] ids = {1, 2};
+		DictionarySnapshot dictionary = DictionarySnapshot.build(ids, new String[]{"차표", "표지"}, 2);
+		WordDictionaryIndex index = new WordDictionaryIndex(null, null, null) {
+			@Override
+			public DictionarySnapshot snapshot() {
+				return dictionary;
+			}
+		};
+		MessageChannel inbound = (message, timeout) -> submitted.add(message);
+
+		bots = new WordChainBots(roomClock, index, inbound, new ObjectMapper(), new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(bots, "thinkMsMin", 10L);
+		ReflectionTestUtils.setField(bots, "thinkMsMax", 20L);
+		ReflectionTestUtils.setField(bots, "topCandidates", 8);
+
+		bots.register("room", "bot-1", "봇");
+		state = new WordChainState();
+		state.start("기차", List.of(
+				new WordChainState.UserSnapshot("bot-1", "봇"),
+				new WordChainState.UserSnapshot("a", "철수")
+		));
+	}
+
+	@Test
+	void sameTurnIsPlannedOnce() {
+		bots.onTurn("room", state);
+		bots.onTurn("room", state);
+
+		assertEquals(1, scheduled.size());
+	}
+
+	@Test
+	void newTurnOfTheSameBotIsPlannedAgain() {
+		bots.onTurn("room", state);
+		state.setTurnStartAt(state.getTurnStartAt() + 1);
+		bots.onTurn("room", state);
+
+		assertEquals(2, scheduled.size());
+	}
+
+	@Test
+	void humanTurnIsNotPlanned() {
+		state.onNextTurn();
+		bots.onTurn("room", state);
+
+		assertTrue(scheduled.isEmpty());
+	}
+
+	@Test
+	void removedRoomForgetsPlannedTurn() {
+		bots.onTurn("room", state);
+		bots.removeRoom("room");
+		bots.register("room", "bot-1", "봇");
+		bots.onTurn("room", state);
+
+		assertEquals(2, scheduled.size());
+	}
+
+	@Test
+	void plannedMoveSubmitsThroughTheClientPath() {
+		bots.onTurn("room", state);
+		scheduled.get(0).run();
+
+		Message<?> message = submitted.get(0);
+		assertEquals("/app/wordchain/room/submit", SimpMessageHeaderAccessor.getDestination(message.getHeaders()));
+		assertEquals("BOT-bot-1", SimpMessageHeaderAccessor.getSessionId(message.getHeaders()));
+		String body = new String((byte[]) message.getPayload(), StandardCharsets.UTF_8);
+		assertTrue(body.contains("\"word\":\"차표\""), body);
+	}
+
+	@Test
+	void moveForAnOldTurnIsDropped() {
+		bots.onTurn("room", state);
+		state.setTurnStartAt(state.getTurnStartAt() + 1);
+		scheduled.get(0).run();
+
+		assertTrue(submitted.isEmpty());
+	}
+}
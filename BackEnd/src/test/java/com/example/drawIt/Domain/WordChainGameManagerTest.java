@@ -0,0 +1,239 @@
+package com.example.drawIt.Domain;
+
+import com.example.drawIt.DTO.SocketEvent;
+import com.example.drawIt.Socket.RoomMembershipEvent;
+import com.example.drawIt.Socket.SocketEventPublisher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WordChainGameManagerTest {
+
+	// 턴 마감 예약 (테스트에서 직접 실행)
+	private record Scheduled(Runnable task, Instant at) {
+	}
+
+	private static class NoopFuture implements ScheduledFuture<Object> {
+		boolean cancelled;
+
+		@Override
+		public long getDelay(TimeUnit unit) {
+			return 0;
+		}
+
+		@Override
+		public int compareTo(Delayed other) {
+			return 0;
+		}
+
+		@Override
+		public boolean cancel(boolean mayInterruptIfRunning) {
+			cancelled = true;
+			return true;
+		}
+
+		@Override
+		public boolean isCancelled() {
+			return cancelled;
+		}
+
+		@Override
+		public boolean isDone() {
+			return cancelled;
+		}
+
+		@Override
+		public Object get() {
+			return null;
+		}
+
+		@Override
+		public Object get(long timeout, TimeUnit unit) {
+			return null;
+		}
+	}
+
+	private final List<Object> sent = new ArrayList<>();
+	private final List<Scheduled> scheduled = new ArrayList<>();
+	private DictionarySnapshot dictionary = DictionarySnapshot.EMPTY;
+	private WordChainGameManager manager;
+	private WordChainState state;
+
+	@BeforeEach
+	void setUp() {
+		WordDictionaryIndex index = new WordDictionaryIndex(null, null, null) {
+			@Override
+			public DictionarySnapshot snapshot() {
+				return dictionary;
+			}
+
+			@Override
+			public boolean loaded() {
+				return true;
+			}
+		};
+		SocketEventPublisher publisher = new SocketEventPublisher(null, null) {
+			@Override
+			public void send(String destination, Object payload) {
+				sent.add(payload);
+			}
+		};
+		ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler() {
+			@Override
+			public ScheduledFuture<?> schedule(Runnable task, Instant startTime) {
+				scheduled.add(new Scheduled(task, startTime));
+				return new NoopFuture();
+			}
+		};
+		// 방 샤드 대신 호출 스레드에서 바로 실행
+		RoomExecutor roomExecutor = new RoomExecutor(null) {
+			@Override
+			public void execute(String roomId, Runnable task) {
+				task.run();
+			}
+		};
+		WordChainBots bots = new WordChainBots(null, index, null, null, new SimpleMeterRegistry());
+		manager = new WordChainGameManager(publisher, scheduler, roomExecutor, index, bots);
+
+		state = new WordChainState();
+		state.start("기력", List.of(new WordChainState.UserSnapshot("a", "철수")));
+	}
+
+	private WordChainState startGame() {
+		WordChainState game = manager.getOrCreate("room");
+		manager.startGame("room", game, "기차", List.of(
+				new WordChainState.UserSnapshot("a", "철수"),
+				new WordChainState.UserSnapshot("b", "영희")
+		));
+		return game;
+	}
+
+	private Scheduled lastScheduled() {
+		return scheduled.get(scheduled.size() - 1);
+	}
+
+	private void dictionary(String... words) {
+		long[] ids = new long[words.length];
+		for (int i = 0; i < words.length; i++) ids[i] = i + 1;
+		dictionary = DictionarySnapshot.build(ids, words, words.length);
+	}
+
+	@Test
+	void unchangedDeadlineTimesOutTheTurn() {
+		WordChainState game = startGame();
+		assertEquals(Instant.ofEpochMilli(game.getTurnDeadline()), lastScheduled().at());
+
+		lastScheduled().task().run();
+
+		SocketEvent.WordChainTimeout timeout = assertInstanceOf(SocketEvent.WordChainTimeout.class, sent.get(0));
+		assertEquals("b", timeout.turnUserId());
+		assertEquals(1, game.getTimeoutCount());
+	}
+
+	@Test
+	void deadlineMovedLaterIsRearmedInsteadOfTimingOut() {
+		WordChainState game = startGame();
+		Scheduled first = lastScheduled();
+
+		// 예약 없이 턴 시작 시각만 바뀐 경우
+		game.setTurnStartAt(game.getTurnStartAt() + 10_000);
+		first.task().run();
+
+		assertTrue(sent.isEmpty());
+		assertEquals(0, game.getTimeoutCount());
+		assertEquals("a", game.getTurnUserId());
+		assertEquals(2, scheduled.size());
+		assertEquals(Instant.ofEpochMilli(game.getTurnDeadline()), lastScheduled().at());
+	}
+
+	@Test
+	void deadlineMovedIntoThePastTimesOut() {
+		WordChainState game = startGame();
+		Scheduled first = lastScheduled();
+
+		game.setTurnStartAt(1);
+		first.task().run();
+
+		assertInstanceOf(SocketEvent.WordChainTimeout.class, sent.get(0));
+		assertEquals(1, game.getTimeoutCount());
+	}
+
+	@Test
+	void deadlineOfFinishedGameIsIgnored() {
+		WordChainState game = startGame();
+		game.finish();
+
+		lastScheduled().task().run();
+
+		assertTrue(sent.isEmpty());
+	}
+
+	@Test
+	void eachStateChangeBumpsTheVersionOnce() {
+		WordChainState game = startGame();
+		assertEquals(1, game.getVersion());
+
+		assertEquals(2, manager.acceptAnswer("room", game, "a"));
+
+		lastScheduled().task().run();
+		assertEquals(3, assertInstanceOf(SocketEvent.WordChainTimeout.class, sent.get(0)).version());
+
+		// 턴 유저(a)가 나감 → 다음 턴
+		manager.onRoomMembership(new RoomMembershipEvent("room", RoomMembershipEvent.Type.LEFT, "a", null));
+		SocketEvent.WordChainTurn turn = assertInstanceOf(SocketEvent.WordChainTurn.class, sent.get(1));
+		assertEquals(4, turn.version());
+		assertEquals(4, game.getVersion());
+	}
+
+	@Test
+	void leavingNonTurnPlayerKeepsTheVersion() {
+		WordChainState game = startGame();
+
+		manager.onRoomMembership(new RoomMembershipEvent("room", RoomMembershipEvent.Type.LEFT, "b", null));
+
+		assertTrue(sent.isEmpty());
+		assertEquals(1, game.getVersion());
+	}
+
+	@Test
+	void unusedVariantWordIsPickedBeforeRepeatingLastCharWord() {
+		dictionary("력설", "역사");
+		manager.markUsed(state, "력설");
+
+		for (int i = 0; i < 20; i++) {
+			assertEquals("역사", manager.pickNextWord(state, "력"));
+			state.getUsedWordOrdinals().clear(dictionary.ordinalAt(dictionary.indexOf("역사")));
+		}
+	}
+
+	@Test
+	void wordsRepeatOnlyAfterBothSyllablesAreUsedUp() {
+		dictionary("력설", "역사");
+		manager.markUsed(state, "력설");
+
+		assertEquals("역사", manager.pickNextWord(state, "력"));
+		assertEquals("력설", manager.pickNextWord(state, "력"));
+	}
+
+	@Test
+	void variantWordsRepeatWhenLastCharHasNoWords() {
+		dictionary("역사");
+		manager.markUsed(state, "역사");
+
+		assertEquals("역사", manager.pickNextWord(state, "력"));
+		assertNull(manager.pickNextWord(state, "힣"));
+	}
+}
@@ -0,0 +1,122 @@
+package com.example.drawIt.Domain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WordChainStateTest {
+
+	private WordChainState state;
+
+	@BeforeEach
+	void setUp() {
+		state = new WordChainState();
+		state.start("기차", List.of(
+				new WordChainState.UserSnapshot("a", "철수"),
+				new WordChainState.UserSnapshot("b", "영희"),
+				new WordChainState.UserSnapshot("c", "민수")
+		));
+	}
+
+	@Test
+	void joiningPlayerGoesToTheEndOfTheTurnOrder() {
+		state.addPlayer("d", "지수");
+		state.addPlayer("a", "철수2");
+
+		assertEquals(List.of("a", "b", "c", "d"), state.getPlayerIds());
+		assertEquals("철수2", state.getNickById().get("a"));
+		assertEquals(0, state.getScoreByUserId().get("d"));
+	}
+
+	@Test
+	void removingTurnPlayerPassesTurnToTheNextSeat() {
+		state.onNextTurn();
+		assertEquals("b", state.getTurnUserId());
+
+		assertTrue(state.removePlayer("b"));
+		assertEquals("c", state.getTurnUserId());
+		assertEquals(List.of("a", "c"), state.getPlayerIds());
+	}
+
+	@Test
+	void removingLastSeatTurnPlayerWrapsAround() {
+		state.onNextTurn();
+		state.onNextTurn();
+		assertEquals("c", state.getTurnUserId());
+
+		assertTrue(state.removePlayer("c"));
+		assertEquals("a", state.getTurnUserId());
+	}
+
+	@Test
+	void removingOtherPlayersKeepsTheTurn() {
+		state.onNextTurn();
+		assertEquals("b", state.getTurnUserId());
+
+		assertFalse(state.removePlayer("a"));
+		assertEquals("b", state.getTurnUserId());
+		state.onNextTurn();
+		assertEquals("c", state.getTurnUserId());
+
+		assertFalse(state.removePlayer("x"));
+	}
+
+	@Test
+	void removedPlayerKeepsScore() {
+		state.addScore("b", 10);
+		state.removePlayer("b");
+
+		assertEquals(10, state.getScoreByUserId().get("b"));
+		assertEquals(List.of("b"), state.getWinnerUserIds());
+	}
+
+	@Test
+	void usedWordOrdinalIsRejectedForTheRestOfTheGame() {
+		assertTrue(state.submit("a", "차표", 7));
+		state.onNextTurn();
+		assertTrue(state.submit("b", "표차", 8));
+		state.onNextTurn();
+
+		assertFalse(state.submit("c", "차표", 7));
+		assertEquals("표차", state.getCurrentWord());
+		assertTrue(state.getUsedWordOrdinals().get(7));
+	}
+
+	@Test
+	void wordWithoutOrdinalIsRejected() {
+		assertFalse(state.submit("a", "차표", -1));
+		assertTrue(state.getUsedWordOrdinals().isEmpty());
+		assertEquals("기차", state.getCurrentWord());
+	}
+
+	@Test
+	void newGameClearsUsedWords() {
+		assertTrue(state.submit("a", "차표", 7));
+
+		state.start("기차", List.of(new WordChainState.UserSnapshot("a", "철수")));
+		assertTrue(state.getUsedWordOrdinals().isEmpty());
+		assertTrue(state.submit("a", "차표", 7));
+	}
+
+	@Test
+	void ruleViolationDoesNotMarkWordUsed() {
+		assertFalse(state.submit("a", "사과", 9));
+		assertFalse(state.submit("b", "차표", 7));
+
+		assertTrue(state.getUsedWordOrdinals().isEmpty());
+		assertEquals("기차", state.getCurrentWord());
+	}
+
+	@Test
+	void initialSoundVariantFollowsTheLastSyllable() {
+		state.start("능력", List.of(new WordChainState.UserSnapshot("a", "철수")));
+
+		assertTrue(state.submit("a", "역사", 3));
+		assertEquals("역사", state.getCurrentWord());
+	}
+}
@@ -0,0 +1,80 @@
+package com.example.drawIt.Domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WordDeckTest {
+
+	@Test
+	void eachPassDrawsEveryIndexOnce() {
+		Random random = new Random(1);
+		for (int size = 1; size <= 30; size++) {
+			WordDeck deck = WordDeck.of("pool", size);
+			for (int pass = 0; pass < 3; pass++) {
+				Set<Integer> drawn = new HashSet<>();
+				for (int i = 0; i < size; i++) {
+					int index = deck.next(random);
+					assertTrue(index >= 0 && index < size);
+					assertTrue(drawn.add(index), "repeated within a pass: size=" + size);
+				}
+				assertEquals(size, drawn.size());
+			}
+		}
+	}
+
+	@Test
+	void newPassDoesNotRepeatThePreviousWord() {
+		Random random = new Random(2);
+		for (int size = 2; size <= 10; size++) {
+			for (int trial = 0; trial < 200; trial++) {
+				WordDeck deck = WordDeck.of("pool", size);
+				int last = -1;
+				for (int i = 0; i < size * 3; i++) {
+					int index = deck.next(random);
+					assertNotEquals(last, index, "immediate repeat: size=" + size);
+					last = index;
+				}
+			}
+		}
+	}
+
+	@Test
+	void singleWordDeckKeepsReturningIt() {
+		WordDeck deck = WordDeck.of("pool", 1);
+		Random random = new Random(3);
+
+		for (int i = 0; i < 5; i++) {
+			assertEquals(0, deck.next(random));
+		}
+	}
+
+	@Test
+	void drawsAreNotInIdentityOrder() {
+		WordDeck deck = WordDeck.of("pool", 1000);
+		Random random = new Random(4);
+
+		int inPlace = 0;
+		for (int i = 0; i < 1000; i++) {
+			if (deck.next(random) == i) inPlace++;
+		}
+		assertTrue(inPlace < 10);
+	}
+
+	@Test
+	void deckIsBoundToItsSource() {
+		Object pool = new Object();
+		WordDeck deck = WordDeck.of(pool, 3);
+
+		assertTrue(deck.isFor(pool));
+		assertFalse(deck.isFor(new Object()));
+		assertEquals(3, deck.size());
+	}
+}
@@ -0,0 +1,91 @@
+package com.example.drawIt.Domain;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class WordPacksTest {
+
+	@TempDir
+	Path dir;
+
+	private WordPacks packs;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		write("ANIMAL.txt", "# 동물\n고양이\n강아지\n고양이\n");
+		write("FOOD.txt", "사과\n고양이\n");
+		write("RANDOM.txt", "우주\n사과\n");
+		write("NOTES.txt", "메모\n");
+
+		packs = new WordPacks(new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(packs, "location", dir.toUri().toString());
+		ReflectionTestUtils.invokeMethod(packs, "init");
+	}
+
+	private void write(String name, String content) throws IOException {
+		Files.writeString(dir.resolve(name), content, StandardCharsets.UTF_8);
+	}
+
+	private static List<String> words(WordPool pool) {
+		List<String> words = new ArrayList<>();
+		for (int i = 0; i < pool.size(); i++) {
+			words.add(pool.get(i));
+		}
+		return words;
+	}
+
+	@Test
+	void categoryPackKeepsItsOwnWordsOnce() {
+		assertEquals(List.of("고양이", "강아지"), words(packs.pool("ANIMAL")));
+		// 앞 팩과 겹치는 단어는 뒤쪽으로
+		assertEquals(List.of("사과", "고양이"), words(packs.pool("FOOD")));
+	}
+
+	@Test
+	void randomViewHoldsEveryWordOnce() {
+		assertEquals(List.of("고양이", "강아지", "사과", "우주"), words(packs.pool("RANDOM")));
+	}
+
+	@Test
+	void unknownModeFallsBackToRandom() {
+		assertSame(packs.pool("RANDOM"), packs.pool("NOTES"));
+		assertSame(packs.pool("RANDOM"), packs.pool(null));
+	}
+
+	@Test
+	void reloadSwapsInNewPools() throws IOException {
+		WordPool before = packs.pool("ANIMAL");
+		write("ANIMAL.txt", "호랑이\n");
+
+		packs.reload();
+
+		assertNotSame(before, packs.pool("ANIMAL"));
+		assertEquals(List.of("호랑이"), words(packs.pool("ANIMAL")));
+	}
+
+	@Test
+	void emptyReloadKeepsCurrentPacks() throws IOException {
+		WordPool before = packs.pool("ANIMAL");
+		for (String name : List.of("ANIMAL.txt", "FOOD.txt", "RANDOM.txt", "NOTES.txt")) {
+			Files.delete(dir.resolve(name));
+		}
+
+		packs.reload();
+
+		assertSame(before, packs.pool("ANIMAL"));
+	}
+}
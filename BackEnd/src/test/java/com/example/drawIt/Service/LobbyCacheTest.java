@@ -0,0 +1,107 @@
+package com.example.drawIt.Service;
+
+import com.example.drawIt.Entity.Lobby;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LobbyCacheTest {
+
+	private LobbyCache cache;
+	private final AtomicInteger loads = new AtomicInteger();
+
+	@BeforeEach
+	void setUp() {
+		cache = new LobbyCache(new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(cache, "maxSize", 2);
+		cache.init();
+	}
+
+	private static Lobby lobby(String id, String hostUserId) {
+		return Lobby.builder().id(id).name("방").mode("RANDOM").hostUserId(hostUserId).hostNickname("닉").build();
+	}
+
+	private Supplier<Optional<Lobby>> loader(String id, String hostUserId, Runnable during) {
+		return () -> {
+			loads.incrementAndGet();
+			during.run();
+			return Optional.of(lobby(id, hostUserId));
+		};
+	}
+
+	@Test
+	void loadedLobbyIsCached() {
+		cache.get("r", loader("r", "u1", () -> {
+		}));
+		Lobby cached = cache.get("r", loader("r", "u2", () -> {
+		})).orElseThrow();
+
+		assertEquals(1, loads.get());
+		assertEquals("u1", cached.getHostUserId());
+	}
+
+	@Test
+	void loadOverlappingFlushIsNotCached() {
+		// 로딩 도중 write-behind 커밋 → 읽은 행은 커밋 전 값일 수 있음
+		Lobby first = cache.get("r", loader("r", "u1", cache::markStale)).orElseThrow();
+		Lobby second = cache.get("r", loader("r", "u2", () -> {
+		})).orElseThrow();
+
+		assertEquals("u1", first.getHostUserId());
+		assertEquals("u2", second.getHostUserId());
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	void loadOverlappingUpdateOrInvalidateIsNotCached() {
+		cache.get("r", loader("r", "u1", () -> cache.update("r", l -> l.setHostUserId("u9"))));
+		cache.get("r", loader("r", "u1", () -> cache.invalidate("other")));
+		cache.get("r", loader("r", "u1", () -> {
+		}));
+
+		assertEquals(3, loads.get());
+	}
+
+	@Test
+	void markStaleKeepsCachedEntries() {
+		cache.get("r", loader("r", "u1", () -> {
+		}));
+		cache.markStale();
+		cache.get("r", loader("r", "u2", () -> {
+		}));
+
+		assertEquals(1, loads.get());
+	}
+
+	@Test
+	void updateReplacesCopyInsteadOfMutating() {
+		Lobby before = cache.get("r", loader("r", "u1", () -> {
+		})).orElseThrow();
+		cache.update("r", l -> l.setHostUserId("u2"));
+		Lobby after = cache.get("r", Optional::empty).orElseThrow();
+
+		assertNotSame(before, after);
+		assertEquals("u1", before.getHostUserId());
+		assertEquals("u2", after.getHostUserId());
+	}
+
+	@Test
+	void leastRecentlyUsedEntryIsEvicted() {
+		cache.put(lobby("a", "u"));
+		cache.put(lobby("b", "u"));
+		cache.get("a", Optional::empty);
+		cache.put(lobby("c", "u"));
+
+		assertTrue(cache.get("a", Optional::empty).isPresent());
+		assertTrue(cache.get("b", Optional::empty).isEmpty());
+	}
+}
@@ -0,0 +1,214 @@
+package com.example.drawIt.Service;
+
+import com.example.drawIt.Entity.Lobby;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LobbyWriteBehindTest {
+
+	// batchUpdate 호출 기록, failures 만큼 실패 (onBatch 는 기록 도중 들어오는 변경 흉내)
+	private static class FakeJdbcTemplate extends JdbcTemplate {
+		final List<String> statements = new ArrayList<>();
+		final List<Object[]> rows = new ArrayList<>();
+		int failures;
+		Runnable onBatch;
+
+		@Override
+		public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+			if (onBatch != null) {
+				Runnable hook = onBatch;
+				onBatch = null;
+				hook.run();
+			}
+			if (failures > 0) {
+				failures--;
+				throw new IllegalStateException("db down");
+			}
+			statements.add(sql.split(" ")[0]);
+			rows.addAll(batchArgs);
+			return new int[batchArgs.size()];
+		}
+	}
+
+	private static class FakeTransactionManager implements PlatformTransactionManager {
+		final List<Integer> propagations = new ArrayList<>();
+		int commits;
+		int rollbacks;
+		boolean failCommit;
+
+		@Override
+		public TransactionStatus getTransaction(TransactionDefinition definition) {
+			propagations.add(definition.getPropagationBehavior());
+			return new SimpleTransactionStatus();
+		}
+
+		@Override
+		public void commit(TransactionStatus status) {
+			if (failCommit) throw new TransactionSystemException("commit failed");
+			commits++;
+		}
+
+		@Override
+		public void rollback(TransactionStatus status) {
+			rollbacks++;
+		}
+	}
+
+	private final FakeJdbcTemplate jdbcTemplate = new FakeJdbcTemplate();
+	private final FakeTransactionManager transactionManager = new FakeTransactionManager();
+	private LobbyWriteBehind writeBehind;
+
+	@BeforeEach
+	void setUp() {
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		LobbyCache lobbyCache = new LobbyCache(meterRegistry);
+		ReflectionTestUtils.setField(lobbyCache, "maxSize", 100);
+		lobbyCache.init();
+
+		writeBehind = new LobbyWriteBehind(jdbcTemplate, meterRegistry, lobbyCache, transactionManager);
+		// 백그라운드 주기는 테스트 중 돌지 않게, 반영은 flushRoom 으로 직접
+		ReflectionTestUtils.setField(writeBehind, "flushMs", 3_600_000L);
+		ReflectionTestUtils.setField(writeBehind, "capacity", 100);
+		writeBehind.start();
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.failures = 0;
+		transactionManager.failCommit = false;
+		writeBehind.stop();
+	}
+
+	private static Optional<Lobby> row(String id) {
+		return Optional.of(Lobby.builder().id(id).hostUserId("old").hostNickname("예전").build());
+	}
+
+	@Test
+	void changesForOneRoomAreCoalesced() {
+		writeBehind.updateHost("r", "u1", "철수");
+		writeBehind.updateHost("r", "u2", "영희");
+		writeBehind.markStarted("r", true);
+
+		writeBehind.flushRoom("r");
+
+		assertEquals(List.of("update", "update"), jdbcTemplate.statements);
+		assertArrayEquals(new Object[]{"u2", "영희", "r"}, jdbcTemplate.rows.get(0));
+		assertArrayEquals(new Object[]{true, "r"}, jdbcTemplate.rows.get(1));
+		assertEquals(1, writeBehind.flushCount());
+	}
+
+	@Test
+	void batchCommitsInItsOwnTransaction() {
+		writeBehind.delete("r");
+		writeBehind.flushRoom("r");
+
+		assertEquals(List.of(TransactionDefinition.PROPAGATION_REQUIRES_NEW), transactionManager.propagations);
+		assertEquals(1, transactionManager.commits);
+	}
+
+	@Test
+	void failedBatchIsKeptAndRetried() {
+		writeBehind.updateHost("r", "u1", "철수");
+		jdbcTemplate.failures = 1;
+
+		writeBehind.flushRoom("r");
+		assertEquals(0, writeBehind.flushCount());
+		assertEquals(1, transactionManager.rollbacks);
+		assertEquals("u1", writeBehind.overlay(row("r")).orElseThrow().getHostUserId());
+
+		writeBehind.flushRoom("r");
+		assertEquals(1, writeBehind.flushCount());
+		assertArrayEquals(new Object[]{"u1", "철수", "r"}, jdbcTemplate.rows.get(0));
+	}
+
+	@Test
+	void rolledBackCommitKeepsChanges() {
+		writeBehind.delete("r");
+		transactionManager.failCommit = true;
+
+		writeBehind.flushRoom("r");
+		assertEquals(0, writeBehind.flushCount());
+		assertTrue(writeBehind.overlay(row("r")).isEmpty());
+
+		transactionManager.failCommit = false;
+		writeBehind.flushRoom("r");
+		assertEquals(1, writeBehind.flushCount());
+		assertEquals(List.of("delete", "delete"), jdbcTemplate.statements);
+	}
+
+	@Test
+	void newerChangeWinsWhenFailedBatchIsMergedBack() {
+		writeBehind.updateHost("r", "u1", "철수");
+		writeBehind.markStarted("r", true);
+		jdbcTemplate.failures = 1;
+		// 실패한 배치를 기록하는 사이 새 방장 변경이 들어옴
+		jdbcTemplate.onBatch = () -> writeBehind.updateHost("r", "u2", "영희");
+
+		writeBehind.flushRoom("r");
+		writeBehind.flushRoom("r");
+
+		assertArrayEquals(new Object[]{"u2", "영희", "r"}, jdbcTemplate.rows.get(0));
+		assertArrayEquals(new Object[]{true, "r"}, jdbcTemplate.rows.get(1));
+	}
+
+	@Test
+	void deleteWinsOverLaterChanges() {
+		writeBehind.delete("r");
+		writeBehind.updateHost("r", "u1", "철수");
+		writeBehind.markStarted("r", true);
+
+		assertTrue(writeBehind.overlay(row("r")).isEmpty());
+		writeBehind.flushRoom("r");
+		assertEquals(List.of("delete"), jdbcTemplate.statements);
+	}
+
+	@Test
+	void failedDeleteSurvivesMergeWithNewerChange() {
+		writeBehind.delete("r");
+		jdbcTemplate.failures = 1;
+		jdbcTemplate.onBatch = () -> writeBehind.markStarted("r", true);
+
+		writeBehind.flushRoom("r");
+		assertTrue(writeBehind.overlay(row("r")).isEmpty());
+
+		writeBehind.flushRoom("r");
+		assertEquals(List.of("delete"), jdbcTemplate.statements);
+	}
+
+	@Test
+	void failingUpdateIsDroppedButDeleteIsNot() {
+		writeBehind.updateHost("a", "u1", "철수");
+		writeBehind.delete("b");
+		jdbcTemplate.failures = Integer.MAX_VALUE;
+
+		for (int i = 0; i < 10; i++) {
+			writeBehind.flushRoom("a");
+			writeBehind.flushRoom("b");
+		}
+		assertEquals("old", writeBehind.overlay(row("a")).orElseThrow().getHostUserId());
+		assertFalse(writeBehind.overlay(row("b")).isPresent());
+
+		jdbcTemplate.failures = 0;
+		writeBehind.flushRoom("a");
+		writeBehind.flushRoom("b");
+		assertEquals(List.of("delete"), jdbcTemplate.statements);
+	}
+}
@@ -0,0 +1,129 @@
+package com.example.drawIt.Service;
+
+import com.example.drawIt.DTO.WordImportResultDTO;
+import com.example.drawIt.Domain.WordDictionaryIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WordImportServiceTest {
+
+	// 다중 행 INSERT IGNORE 흉내: 이미 있는 단어는 건너뛰고 실제로 들어간 행 수 반환
+	private static class FakeJdbcTemplate extends JdbcTemplate {
+		final Set<String> table = new LinkedHashSet<>();
+		final List<Integer> rowsPerStatement = new ArrayList<>();
+
+		@Override
+		public int update(String sql, Object... args) {
+			int rows = args.length / 3;
+			assertEquals(sql, WordImportService.buildInsertSql(rows));
+			rowsPerStatement.add(rows);
+
+			int inserted = 0;
+			for (int i = 0; i < args.length; i += 3) {
+				if (table.add((String) args[i])) inserted++;
+			}
+			return inserted;
+		}
+	}
+
+	private final FakeJdbcTemplate jdbcTemplate = new FakeJdbcTemplate();
+	private int refreshes;
+	private WordImportService service;
+
+	@BeforeEach
+	void setUp() {
+		WordDictionaryIndex index = new WordDictionaryIndex(null, null, null) {
+			@Override
+			public synchronized void refresh() {
+				refreshes++;
+			}
+		};
+		service = new WordImportService(jdbcTemplate, index);
+		ReflectionTestUtils.setField(service, "chunkLines", 3);
+		ReflectionTestUtils.setField(service, "batchSize", 2);
+	}
+
+	private static InputStream lines(String... lines) {
+		return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	void normalizeCleansAndComposesWords() {
+		assertEquals("사과", WordImportService.normalize("\uFEFF 사과 ", -1));
+		assertEquals("사과", WordImportService.normalize("\u1109\u1161\u1100\u116A", -1));
+		assertEquals("기차", WordImportService.normalize("1,\"기차\",명사", 1));
+	}
+
+	@Test
+	void normalizeRejectsInvalidWords() {
+		assertNull(WordImportService.normalize("", -1));
+		assertNull(WordImportService.normalize("# 주석", -1));
+		assertNull(WordImportService.normalize("가", -1));
+		assertNull(WordImportService.normalize("사과a", -1));
+		assertNull(WordImportService.normalize("가".repeat(21), -1));
+		assertNull(WordImportService.normalize("1,기차", 2));
+	}
+
+	@Test
+	void duplicatesAreFilteredWithinChunkAndCountedFromTheDatabase() {
+		WordImportResultDTO result = service.importWords(lines(
+				"사과", "사과", "기차",
+				"기차", "나무", "",
+				"xyz"
+		), -1, 0);
+
+		assertTrue(result.isCompleted());
+		assertEquals(7, result.getLinesRead());
+		assertEquals(7, result.getCommittedLine());
+		assertEquals(3, result.getInserted());
+		assertEquals(2, result.getDuplicates());
+		assertEquals(1, result.getRejected());
+		assertEquals(List.of("사과", "기차", "나무"), new ArrayList<>(jdbcTemplate.table));
+		assertEquals(7, service.committedLine());
+		assertEquals(1, refreshes);
+	}
+
+	@Test
+	void wordsAreWrittenInMultiRowStatementsOfBatchSize() {
+		ReflectionTestUtils.setField(service, "chunkLines", 10);
+
+		WordImportResultDTO result = service.importWords(lines("사과", "기차", "나무"), -1, 0);
+
+		assertEquals(3, result.getInserted());
+		assertEquals(List.of(2, 1), jdbcTemplate.rowsPerStatement);
+	}
+
+	@Test
+	void importResumesAfterCommittedLine() {
+		WordImportResultDTO result = service.importWords(lines("사과", "기차", "나무", "하늘"), -1, 3);
+
+		assertEquals(4, result.getCommittedLine());
+		assertEquals(1, result.getInserted());
+		assertEquals(List.of("하늘"), new ArrayList<>(jdbcTemplate.table));
+	}
+
+	@Test
+	void nothingInsertedSkipsDictionaryRefresh() {
+		jdbcTemplate.table.add("사과");
+
+		WordImportResultDTO result = service.importWords(lines("사과"), -1, 0);
+
+		assertEquals(0, result.getInserted());
+		assertEquals(1, result.getDuplicates());
+		assertEquals(0, refreshes);
+	}
+}
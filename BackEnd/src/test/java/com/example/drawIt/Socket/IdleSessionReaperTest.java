@@ -0,0 +1,95 @@
+package com.example.drawIt.Socket;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IdleSessionReaperTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final List<String> closed = new ArrayList<>();
+	private IdleSessionReaper reaper;
+	private WebSocketHandler handler;
+
+	@BeforeEach
+	void setUp() {
+		reaper = new IdleSessionReaper(meterRegistry);
+		reaper.initMeters();
+		handler = reaper.decorate(new TextWebSocketHandler());
+	}
+
+	// getId / close 만 쓰는 세션
+	private WebSocketSession session(String id) {
+		return (WebSocketSession) Proxy.newProxyInstance(
+				getClass().getClassLoader(),
+				new Class<?>[]{WebSocketSession.class},
+				(proxy, method, args) -> switch (method.getName()) {
+					case "getId" -> id;
+					case "close" -> {
+						closed.add(id);
+						yield null;
+					}
+					case "isOpen" -> true;
+					default -> null;
+				}
+		);
+	}
+
+	private double detections(String cause) {
+		return meterRegistry.get("drawit.ws.disconnect.detection").tag("cause", cause).timer().count();
+	}
+
+	@Test
+	void idleSessionIsClosedOnce() throws Exception {
+		ReflectionTestUtils.setField(reaper, "idleTimeoutMs", -1_000L);
+		handler.afterConnectionEstablished(session("s1"));
+
+		reaper.reapIdleSessions();
+		reaper.reapIdleSessions();
+
+		assertEquals(List.of("s1"), closed);
+		assertEquals(1.0, meterRegistry.get("drawit.ws.sessions.reaped").counter().count());
+	}
+
+	@Test
+	void sessionWithRecentFramesIsKept() throws Exception {
+		ReflectionTestUtils.setField(reaper, "idleTimeoutMs", 60_000L);
+		WebSocketSession session = session("s1");
+		handler.afterConnectionEstablished(session);
+		handler.handleMessage(session, new TextMessage("\n"));
+
+		reaper.reapIdleSessions();
+
+		assertTrue(closed.isEmpty());
+	}
+
+	@Test
+	void closeIsRecordedByCause() throws Exception {
+		ReflectionTestUtils.setField(reaper, "idleTimeoutMs", -1_000L);
+		WebSocketSession idle = session("idle");
+		handler.afterConnectionEstablished(idle);
+		reaper.reapIdleSessions();
+		handler.afterConnectionClosed(idle, CloseStatus.SESSION_NOT_RELIABLE);
+
+		WebSocketSession normal = session("normal");
+		handler.afterConnectionEstablished(normal);
+		handler.afterConnectionClosed(normal, CloseStatus.NORMAL);
+
+		assertEquals(1, detections("reaped"));
+		assertEquals(1, detections("closed"));
+		assertEquals(0.0, meterRegistry.get("drawit.ws.sessions.tracked").gauge().value());
+	}
+}
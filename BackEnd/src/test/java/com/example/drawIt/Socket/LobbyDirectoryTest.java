@@ -0,0 +1,156 @@
+package com.example.drawIt.Socket;
+
+import com.example.drawIt.DTO.SocketEvent;
+import com.example.drawIt.Entity.Lobby;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LobbyDirectoryTest {
+
+	private final List<Object> sent = new ArrayList<>();
+	private final List<Runnable> scheduled = new ArrayList<>();
+	private LobbyDirectory directory;
+
+	@BeforeEach
+	void setUp() {
+		SocketEventPublisher publisher = new SocketEventPublisher(null, null) {
+			@Override
+			public void send(String destination, Object payload) {
+				sent.add(payload);
+			}
+		};
+		ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler() {
+			@Override
+			public ScheduledFuture<?> schedule(Runnable task, Instant startTime) {
+				scheduled.add(task);
+				return null;
+			}
+		};
+		directory = new LobbyDirectory(null, null, publisher, scheduler);
+	}
+
+	private static Lobby lobby(String id, String name) {
+		return Lobby.builder()
+				.id(id).name(name).mode("RANDOM")
+				.hostUserId("u1").hostNickname("철수")
+				.createdAt(LocalDateTime.of(2024, 1, 1, 12, 0))
+				.build();
+	}
+
+	// 모인 변경분 전송 후 마지막 LOBBY_DIFF
+	private SocketEvent.LobbyDiff flush() {
+		List<Runnable> tasks = new ArrayList<>(scheduled);
+		scheduled.clear();
+		tasks.forEach(Runnable::run);
+		return assertInstanceOf(SocketEvent.LobbyDiff.class, sent.get(sent.size() - 1));
+	}
+
+	private static List<String> ops(SocketEvent.LobbyDiff diff) {
+		return diff.changes().stream().map(c -> c.op() + ":" + c.id()).toList();
+	}
+
+	@Test
+	void emptyLobbyIsNotPublishedUntilSomeoneJoins() {
+		directory.register(lobby("r", "방"));
+		List<Runnable> tasks = new ArrayList<>(scheduled);
+		scheduled.clear();
+		tasks.forEach(Runnable::run);
+		assertTrue(sent.isEmpty());
+
+		directory.updateCount("r", 1);
+		SocketEvent.LobbyDiff diff = flush();
+
+		assertEquals(List.of("ADDED:r"), ops(diff));
+		assertEquals(0, diff.baseVersion());
+		assertEquals(1, diff.version());
+	}
+
+	@Test
+	void changesWithinOneFlushShareOneVersion() {
+		directory.register(lobby("a", "방"));
+		directory.register(lobby("b", "방"));
+		directory.updateCount("a", 2);
+		directory.updateCount("b", 1);
+		flush();
+
+		directory.updateCount("a", 3);
+		directory.markStarted("b", true);
+		assertEquals(1, scheduled.size());
+		SocketEvent.LobbyDiff diff = flush();
+
+		// b 는 게임 중인데 1명 → 목록에서 빠짐
+		assertEquals(List.of("COUNT:a", "REMOVED:b"), ops(diff));
+		assertEquals(1, diff.baseVersion());
+		assertEquals(2, diff.version());
+	}
+
+	@Test
+	void startedAndMetadataChangesAreReportedSeparately() {
+		directory.register(lobby("a", "방"));
+		directory.updateCount("a", 2);
+		flush();
+
+		directory.markStarted("a", true);
+		assertEquals(List.of("STARTED:a"), ops(flush()));
+
+		directory.updateHost("a", "영희");
+		SocketEvent.LobbyDiff diff = flush();
+		assertEquals(List.of("UPDATED:a"), ops(diff));
+		assertEquals("영희", diff.changes().get(0).lobby().getHostNickname());
+	}
+
+	@Test
+	void lobbyThatBecomesInvisibleIsRemoved() {
+		directory.register(lobby("a", "방"));
+		directory.updateCount("a", 1);
+		flush();
+
+		directory.updateCount("a", 0);
+		assertEquals(List.of("REMOVED:a"), ops(flush()));
+		assertTrue(directory.visibleLobbies().isEmpty());
+		assertTrue(directory.search(null, false, null, null, 10).getLobbies().isEmpty());
+	}
+
+	@Test
+	void removalOfNeverPublishedLobbySendsNothing() {
+		directory.register(lobby("a", "방"));
+		directory.updateCount("a", 1);
+		flush();
+		int before = sent.size();
+
+		directory.register(lobby("b", "방"));
+		directory.remove("b");
+		List<Runnable> tasks = new ArrayList<>(scheduled);
+		scheduled.clear();
+		tasks.forEach(Runnable::run);
+
+		assertEquals(before, sent.size());
+		assertEquals(1, directory.snapshot().version());
+	}
+
+	@Test
+	void deletedLobbyIsRemovedFromListAndSearch() {
+		directory.register(lobby("a", "방"));
+		directory.updateCount("a", 1);
+		flush();
+
+		directory.remove("a");
+		SocketEvent.LobbyDiff diff = flush();
+
+		assertEquals(List.of("REMOVED:a"), ops(diff));
+		assertEquals(2, directory.snapshot().version());
+		assertTrue(directory.snapshot().lobbies().isEmpty());
+		assertTrue(directory.search("방", false, null, null, 10).getLobbies().isEmpty());
+	}
+}
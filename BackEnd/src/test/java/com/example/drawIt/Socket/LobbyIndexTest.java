@@ -0,0 +1,103 @@
+package com.example.drawIt.Socket;
+
+import com.example.drawIt.DTO.LobbyResponseDTO;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LobbyIndexTest {
+
+	private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+	private static LobbyResponseDTO lobby(String id, String name, String mode, int minutes) {
+		return new LobbyResponseDTO(id, name, mode, "host", false, 1, 6, false, BASE.plusMinutes(minutes));
+	}
+
+	private static List<String> ids(List<LobbyResponseDTO> lobbies) {
+		return lobbies.stream().map(LobbyResponseDTO::getId).toList();
+	}
+
+	@Test
+	void pagesFollowCreationOrderThroughCursor() {
+		LobbyIndex index = new LobbyIndex();
+		index.put(lobby("c", "방", "DRAW", 3));
+		index.put(lobby("a", "방", "DRAW", 1));
+		index.put(lobby("e", "방", "DRAW", 5));
+		index.put(lobby("b", "방", "DRAW", 2));
+		index.put(lobby("d", "방", "DRAW", 4));
+
+		List<LobbyResponseDTO> first = index.search(null, false, null, null, 2);
+		assertEquals(List.of("a", "b"), ids(first));
+
+		LobbyIndex.Key after = LobbyIndex.Key.fromCursor(LobbyIndex.Key.of(first.get(1)).toCursor());
+		assertEquals(List.of("c", "d"), ids(index.search(null, false, null, after, 2)));
+
+		after = LobbyIndex.Key.of(lobby("d", "방", "DRAW", 4));
+		assertEquals(List.of("e"), ids(index.search(null, false, null, after, 2)));
+	}
+
+	@Test
+	void sameCreationTimeIsOrderedById() {
+		LobbyIndex index = new LobbyIndex();
+		index.put(lobby("b", "방", "DRAW", 0));
+		index.put(lobby("a", "방", "DRAW", 0));
+
+		assertEquals(List.of("a", "b"), ids(index.search(null, false, null, null, 10)));
+	}
+
+	@Test
+	void filtersCombine() {
+		LobbyIndex index = new LobbyIndex();
+		index.put(lobby("1", "Apple", "DRAW", 1));
+		index.put(lobby("2", "apricot", "WORD_CHAIN", 2));
+		index.put(lobby("3", "Banana", "DRAW", 3));
+		LobbyResponseDTO full = lobby("4", "Avocado", "DRAW", 4);
+		full.setCurrentCount(6);
+		index.put(full);
+
+		assertEquals(List.of("1", "2", "4"), ids(index.search(null, false, "a", null, 10)));
+		assertEquals(List.of("1", "2"), ids(index.search(null, false, " AP", null, 10)));
+		assertEquals(List.of("1", "3"), ids(index.search("DRAW", true, null, null, 10)));
+		assertEquals(List.of("1"), ids(index.search("DRAW", true, "a", null, 10)));
+		assertTrue(index.search("UNKNOWN", false, null, null, 10).isEmpty());
+	}
+
+	@Test
+	void updateMovesLobbyBetweenIndexes() {
+		LobbyIndex index = new LobbyIndex();
+		index.put(lobby("1", "Apple", "DRAW", 1));
+
+		LobbyResponseDTO renamed = lobby("1", "Cherry", "DRAW", 1);
+		renamed.setGameStarted(true);
+		index.put(renamed);
+
+		assertTrue(index.search(null, false, "ap", null, 10).isEmpty());
+		assertEquals(List.of("1"), ids(index.search(null, false, "ch", null, 10)));
+		assertTrue(index.search(null, true, null, null, 10).isEmpty());
+	}
+
+	@Test
+	void removeUnindexesNamePrefixes() {
+		LobbyIndex index = new LobbyIndex();
+		index.put(lobby("1", "Apple", "DRAW", 1));
+		index.put(lobby("2", "Apricot", "DRAW", 2));
+
+		index.remove("1");
+		assertEquals(List.of("2"), ids(index.search(null, false, "ap", null, 10)));
+		assertTrue(index.search(null, false, "app", null, 10).isEmpty());
+
+		index.remove("2");
+		assertTrue(index.search(null, false, "a", null, 10).isEmpty());
+		assertTrue(index.search(null, false, null, null, 10).isEmpty());
+	}
+
+	@Test
+	void malformedCursorIsRejected() {
+		assertThrows(IllegalArgumentException.class, () -> LobbyIndex.Key.fromCursor("@@"));
+	}
+}
@@ -0,0 +1,71 @@
+package com.example.drawIt.Socket;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class NicknameIndexTest {
+
+	@Test
+	void freeNicknameIsKept() {
+		NicknameIndex index = new NicknameIndex();
+
+		assertEquals("철수", index.resolve("철수"));
+	}
+
+	@Test
+	void duplicatesGetTheSmallestFreeSuffix() {
+		NicknameIndex index = new NicknameIndex();
+		index.add("철수");
+		assertEquals("철수(2)", index.resolve("철수"));
+
+		index.add("철수(2)");
+		index.add("철수(3)");
+		assertEquals("철수(4)", index.resolve("철수"));
+	}
+
+	@Test
+	void removedSuffixIsReused() {
+		NicknameIndex index = new NicknameIndex();
+		index.add("철수");
+		index.add("철수(2)");
+		index.add("철수(3)");
+
+		index.remove("철수(2)");
+		assertEquals("철수(2)", index.resolve("철수"));
+
+		index.remove("철수(3)");
+		assertEquals("철수(2)", index.resolve("철수"));
+	}
+
+	@Test
+	void baseNameIsFreeAgainAfterRemoval() {
+		NicknameIndex index = new NicknameIndex();
+		index.add("철수");
+		index.add("철수(2)");
+
+		index.remove("철수");
+		assertEquals("철수", index.resolve("철수"));
+	}
+
+	@Test
+	void onlyGeneratedSuffixFormsCount() {
+		NicknameIndex index = new NicknameIndex();
+		index.add("철수");
+		// 번호로 보지 않는 형태 (1, 앞자리 0, 숫자 아님)
+		index.add("철수(1)");
+		index.add("철수(02)");
+		index.add("철수(a)");
+
+		assertEquals("철수(2)", index.resolve("철수"));
+	}
+
+	@Test
+	void nicknameThatLooksSuffixedResolvesOnItsOwn() {
+		NicknameIndex index = new NicknameIndex();
+		index.add("철수(2)");
+
+		assertEquals("철수", index.resolve("철수"));
+		assertEquals("철수(2)(2)", index.resolve("철수(2)"));
+	}
+}
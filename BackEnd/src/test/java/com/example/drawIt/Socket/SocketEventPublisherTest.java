@@ -0,0 +1,59 @@
+package com.example.drawIt.Socket;
+
+import com.example.drawIt.DTO.SocketEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.DefaultUserDestinationResolver;
+import org.springframework.messaging.simp.user.UserDestinationResult;
+import org.springframework.web.socket.messaging.DefaultSimpUserRegistry;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SocketEventPublisherTest {
+
+	private final List<Message<?>> sent = new ArrayList<>();
+	private SocketEventPublisher publisher;
+
+	@BeforeEach
+	void setUp() {
+		SimpMessagingTemplate template = new SimpMessagingTemplate((message, timeout) -> sent.add(message));
+		publisher = new SocketEventPublisher(template, new ObjectMapper());
+	}
+
+	@Test
+	void sendGoesToTheTopic() {
+		publisher.send("/topic/wordchain/room", new SocketEvent.WordChainStartDenied("WAIT"));
+
+		Message<?> message = sent.get(0);
+		assertEquals("/topic/wordchain/room", SimpMessageHeaderAccessor.getDestination(message.getHeaders()));
+		assertNull(SimpMessageHeaderAccessor.getSessionId(message.getHeaders()));
+	}
+
+	@Test
+	void sendToSessionTargetsOnlyThatSession() {
+		publisher.sendToSession("s1", "/queue/wordchain", new SocketEvent.WordChainStartDenied("WAIT"));
+
+		Message<?> message = sent.get(0);
+		// UserDestinationMessageHandler 가 사용자 자리 = simpSessionId 이면 그 세션의 구독으로만 변환
+		assertEquals("/user/s1/queue/wordchain", SimpMessageHeaderAccessor.getDestination(message.getHeaders()));
+		assertEquals("s1", SimpMessageHeaderAccessor.getSessionId(message.getHeaders()));
+
+		UserDestinationResult resolved = new DefaultUserDestinationResolver(new DefaultSimpUserRegistry())
+				.resolveDestination(message);
+		assertEquals(Set.of("/queue/wordchain-users1"), resolved.getTargetDestinations());
+
+		String body = new String((byte[]) message.getPayload(), StandardCharsets.UTF_8);
+		assertTrue(body.contains("\"reason\":\"WAIT\""), body);
+	}
+}
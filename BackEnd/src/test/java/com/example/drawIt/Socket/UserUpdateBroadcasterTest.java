@@ -0,0 +1,146 @@
+package com.example.drawIt.Socket;
+
+import com.example.drawIt.DTO.SocketEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UserUpdateBroadcasterTest {
+
+	private final List<Object> sent = new ArrayList<>();
+	private final List<Runnable> scheduled = new ArrayList<>();
+	private UserUpdateBroadcaster broadcaster;
+
+	@BeforeEach
+	void setUp() {
+		SocketEventPublisher publisher = new SocketEventPublisher(null, null) {
+			@Override
+			public void send(String destination, Object payload) {
+				sent.add(payload);
+			}
+		};
+		// 디바운스 타이머는 테스트에서 직접 실행
+		ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler() {
+			@Override
+			public ScheduledFuture<?> schedule(Runnable task, Instant startTime) {
+				scheduled.add(task);
+				return null;
+			}
+		};
+		broadcaster = new UserUpdateBroadcaster(publisher, scheduler);
+	}
+
+	private static Map<String, Object> user(String userId, String nickname, boolean host, int score) {
+		return Map.of("userId", userId, "nickname", nickname, "host", host, "score", score);
+	}
+
+	private void runScheduled() {
+		List<Runnable> tasks = new ArrayList<>(scheduled);
+		scheduled.clear();
+		tasks.forEach(Runnable::run);
+	}
+
+	@Test
+	void firstFlushSendsFullSnapshot() {
+		List<Map<String, Object>> users = List.of(user("a", "철수", true, 0));
+		broadcaster.markDirty("room", () -> new UserUpdateBroadcaster.Roster(users, "a", false));
+		runScheduled();
+
+		SocketEvent.UserUpdate update = assertInstanceOf(SocketEvent.UserUpdate.class, sent.get(0));
+		assertEquals(users, update.users());
+		assertEquals(1L, update.version());
+	}
+
+	@Test
+	void changesWithinDebounceAreSentAsOneDelta() {
+		broadcaster.recordSnapshot("room", List.of(user("a", "철수", true, 0), user("b", "영희", false, 0)));
+
+		broadcaster.markDirty("room", () -> {
+			throw new AssertionError("superseded supplier must not be called");
+		});
+		broadcaster.markDirty("room", () -> new UserUpdateBroadcaster.Roster(
+				List.of(user("a", "철수", true, 10), user("c", "민수", false, 0)), "a", false));
+		assertEquals(1, scheduled.size());
+		runScheduled();
+
+		assertEquals(1, sent.size());
+		SocketEvent.UserDelta delta = assertInstanceOf(SocketEvent.UserDelta.class, sent.get(0));
+		assertEquals(1, delta.baseVersion());
+		assertEquals(2, delta.version());
+		assertEquals(List.of(user("c", "민수", false, 0)), delta.added());
+		assertEquals(List.of("b"), delta.removed());
+		assertEquals(List.of(new SocketEvent.UserChange("a", null, null, 10, null)), delta.changed());
+		assertNull(delta.order());
+	}
+
+	@Test
+	void orderIsSentOnlyWhenItChanges() {
+		broadcaster.recordSnapshot("room", List.of(user("a", "철수", true, 0), user("b", "영희", false, 0)));
+
+		// 방장 변경으로 b 가 앞으로
+		broadcaster.markDirty("room", () -> new UserUpdateBroadcaster.Roster(
+				List.of(user("b", "영희", true, 0), user("a", "철수", false, 0)), "b", false));
+		runScheduled();
+
+		SocketEvent.UserDelta delta = assertInstanceOf(SocketEvent.UserDelta.class, sent.get(0));
+		assertEquals(List.of("b", "a"), delta.order());
+		assertEquals("b", delta.hostUserId());
+		assertEquals(2, delta.changed().size());
+		assertNull(delta.added());
+		assertNull(delta.removed());
+	}
+
+	@Test
+	void unchangedRosterStillAdvancesVersion() {
+		List<Map<String, Object>> users = List.of(user("a", "철수", true, 0));
+		broadcaster.recordSnapshot("room", users);
+
+		broadcaster.markDirty("room", () -> new UserUpdateBroadcaster.Roster(users, "a", true));
+		runScheduled();
+
+		SocketEvent.UserDelta delta = assertInstanceOf(SocketEvent.UserDelta.class, sent.get(0));
+		assertNull(delta.added());
+		assertNull(delta.removed());
+		assertNull(delta.changed());
+		assertTrue(delta.gameStarted());
+		assertEquals(2, delta.version());
+	}
+
+	@Test
+	void snapshotResetsTheBaseline() {
+		broadcaster.recordSnapshot("room", List.of(user("a", "철수", true, 0)));
+		broadcaster.sendSnapshot("room", new UserUpdateBroadcaster.Roster(
+				List.of(user("a", "철수", true, 0), user("b", "영희", false, 0)), "a", false));
+
+		broadcaster.markDirty("room", () -> new UserUpdateBroadcaster.Roster(
+				List.of(user("a", "철수", true, 0), user("b", "영희", false, 5)), "a", false));
+		runScheduled();
+
+		assertEquals(2L, assertInstanceOf(SocketEvent.UserUpdate.class, sent.get(0)).version());
+		SocketEvent.UserDelta delta = assertInstanceOf(SocketEvent.UserDelta.class, sent.get(1));
+		assertEquals(2, delta.baseVersion());
+		assertNull(delta.added());
+		assertEquals(List.of(new SocketEvent.UserChange("b", null, null, 5, null)), delta.changed());
+	}
+
+	@Test
+	void removedRoomIsNotFlushed() {
+		broadcaster.recordSnapshot("room", List.of(user("a", "철수", true, 0)));
+		broadcaster.markDirty("room", () -> new UserUpdateBroadcaster.Roster(List.of(), null, false));
+		broadcaster.removeRoom("room");
+		runScheduled();
+
+		assertTrue(sent.isEmpty());
+	}
+}
@@ -0,0 +1,68 @@
+// 로비 목록 동기화 (/topic/lobbies)
+// - LOBBY_SNAPSHOT: version 시점 전체 목록으로 교체
+// - LOBBY_DIFF: baseVersion 이 현재 version 과 같을 때만 반영
+// - 버전이 어긋나면 null 을 돌려주므로 호출 측에서 /app/lobbies/snapshot 재구독
+const byCreatedAt = (a, b) => {
+  const dateA = a.createdAt ? new Date(a.createdAt).getTime() : 0;
+  const dateB = b.createdAt ? new Date(b.createdAt).getTime() : 0;
+
+  // createdAt 없는 데이터는 뒤로
+  if (!dateA && dateB) return 1;
+  if (dateA && !dateB) return -1;
+
+  return dateA - dateB; // 오래된 방이 위로
+};
+
+export const createLobbyDirectory = () => {
+  let version = null;
+  let lobbies = new Map();
+
+  const list = () => Array.from(lobbies.values()).sort(byCreatedAt);
+
+  const applyChange = (change) => {
+    const current = lobbies.get(change.id);
+
+    switch (change.op) {
+      case "ADDED":
+      case "UPDATED":
+        lobbies.set(change.id, change.lobby);
+        break;
+      case "REMOVED":
+        lobbies.delete(change.id);
+        break;
+      case "COUNT":
+        if (current) lobbies.set(change.id, { ...current, currentCount: change.currentCount });
+        break;
+      case "STARTED":
+        if (current) lobbies.set(change.id, { ...current, gameStarted: change.gameStarted });
+        break;
+      default:
+        break;
+    }
+  };
+
+  return {
+    apply(data) {
+      if (data.type === "LOBBY_SNAPSHOT") {
+        // 이미 더 최신 상태면 늦게 도착한 스냅샷은 무시
+        if (version != null && data.version < version) return list();
+
+        lobbies = new Map((data.lobbies || []).map((room) => [room.id, room]));
+        version = data.version;
+        return list();
+      }
+
+      if (data.type === "LOBBY_DIFF") {
+        if (version == null) return null;
+        if (data.baseVersion < version) return list(); // 스냅샷에 이미 반영된 변경
+        if (data.baseVersion !== version) return null;
+
+        (data.changes || []).forEach(applyChange);
+        version = data.version;
+        return list();
+      }
+
+      return list();
+    },
+  };
+};
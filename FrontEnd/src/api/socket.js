@@ -0,0 +1,25 @@
+import SockJS from "sockjs-client";
+import { API_BASE_URL } from "./config";
+
+// STOMP 소켓 생성
+// - 네이티브 WebSocket(/ws-native) 우선: SockJS 프레이밍 없음 + permessage-deflate 압축
+// - WebSocket 미지원 환경에서만 SockJS(/ws-stomp) 폴백
+const toWebSocketUrl = (path) => {
+  const base = API_BASE_URL.includes("://")
+    ? API_BASE_URL
+    : `${window.location.protocol}//${API_BASE_URL || window.location.host}`;
+  const url = new URL(path, base);
+  url.protocol = url.protocol === "https:" ? "wss:" : "ws:";
+  return url.toString();
+};
+
+export const createStompSocket = () => {
+  if (typeof window !== "undefined" && "WebSocket" in window) {
+    return new WebSocket(toWebSocketUrl("/ws-native"));
+  }
+  return new SockJS(`${API_BASE_URL}/ws-stomp`);
+};
+
+// 서버(drawit.ws.heartbeat.*)와 맞춘 하트비트 주기
+// - 끊긴 연결을 몇 초 안에 감지해 방 인원이 빠르게 정리되도록 짧게 유지
+export const STOMP_HEARTBEAT_MS = 5000;
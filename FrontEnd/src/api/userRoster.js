@@ -0,0 +1,45 @@
+// 방 유저 목록 동기화
+// - USER_UPDATE(전체 스냅샷)는 그대로 기준점으로 저장
+// - USER_DELTA(변경분)는 기준 버전이 맞을 때만 반영
+// - 버전이 어긋나면 null 을 돌려주므로 호출 측에서 /app/lobby/{roomId}/sync 요청
+export const createUserRoster = () => {
+  let version = null;
+  let users = [];
+
+  const applyDelta = (data) => {
+    if (version == null || data.baseVersion !== version) return null;
+
+    const removed = new Set(data.removed || []);
+    const changedById = {};
+    (data.changed || []).forEach((c) => {
+      changedById[c.userId] = c;
+    });
+
+    let next = users
+      .filter((u) => !removed.has(u.userId))
+      .map((u) => (changedById[u.userId] ? { ...u, ...changedById[u.userId] } : u))
+      .concat(data.added || []);
+
+    if (data.order) {
+      const byId = {};
+      next.forEach((u) => {
+        byId[u.userId] = u;
+      });
+      next = data.order.map((id) => byId[id]).filter(Boolean);
+    }
+
+    users = next;
+    version = data.version;
+    return users;
+  };
+
+  return {
+    apply(data) {
+      if (data.type === "USER_DELTA") return applyDelta(data);
+
+      users = data.users || [];
+      version = data.version ?? version;
+      return users;
+    },
+  };
+};
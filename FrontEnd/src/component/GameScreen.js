@@ -2,10 +2,11 @@ import { Client } from '@stomp/stompjs';
 import axios from 'axios';
 import { useCallback, useEffect, useRef, useState } from 'react';
 import { useNavigate, useParams } from 'react-router-dom';
-import SockJS from 'sockjs-client';
+import { createStompSocket, STOMP_HEARTBEAT_MS } from '../api/socket';
 
 import { createPortal } from 'react-dom';
 import { API_BASE_URL } from '../api/config';
+import { createUserRoster } from '../api/userRoster';
 import './GameScreen.css';
 import PenIcon from './icons/PenIcon';
 import EraserSettings from './settingmodals/EraserSettings';
@@ -47,6 +48,7 @@ function GameScreen({ maxPlayers = 10 }) {
   const connectedRef = useRef(false);
   const reconnectingRef = useRef(false);
   const subsRef = useRef([]);
+  const userRosterRef = useRef(createUserRoster());
 
   const isFirstSocketUpdate = useRef(true);
 
@@ -288,10 +290,10 @@ function GameScreen({ maxPlayers = 10 }) {
 
     const connect = () => {
       const client = new Client({
-        webSocketFactory: () => new SockJS(`${API_BASE_URL}/ws-stomp`),
+        webSocketFactory: () => createStompSocket(),
         reconnectDelay: 3000,
-        heartbeatIncoming: 10000,
-        heartbeatOutgoing: 10000,
+        heartbeatIncoming: STOMP_HEARTBEAT_MS,
+        heartbeatOutgoing: STOMP_HEARTBEAT_MS,
         debug: () => {},
 
         onConnect: () => {
@@ -304,7 +306,18 @@ function GameScreen({ maxPlayers = 10 }) {
           console.log("Game STOMP connected");
 
           const subLobby = client.subscribe(`/topic/lobby/${lobbyId}`, (msg) => {
-            const data = JSON.parse(msg.body);
+            let data = JSON.parse(msg.body);
+
+          if (data.type === 'USER_DELTA') {
+            const users = userRosterRef.current.apply(data);
+            if (!users) {
+              client.publish({ destination: `/app/lobby/${lobbyId}/sync`, body: '{}' });
+              return;
+            }
+            data = { ...data, type: 'USER_UPDATE', users };
+          } else if (data.type === 'USER_UPDATE') {
+            userRosterRef.current.apply(data);
+          }
 
           const updateDrawerState = (newDrawerId, newWord, endTime) => {
             setIsDrawer(String(newDrawerId) === String(userId));
@@ -7,7 +7,8 @@ import React, { useState, useEffect, useRef } from 'react';
 import { useNavigate } from 'react-router-dom';
 import axios from 'axios';
 import { Client } from '@stomp/stompjs';
-import SockJS from 'sockjs-client';
+import { createStompSocket, STOMP_HEARTBEAT_MS } from '../api/socket';
+import { createLobbyDirectory } from '../api/lobbyDirectory';
 
 import '../layout/Fragment.css';
 import './Join.css';
@@ -82,6 +83,8 @@ function Join() {
     const navigate = useNavigate();
     const [rooms, setRooms] = useState([]); // 방 목록 상태 관리
     const client = useRef(null);            // 소켓 클라이언트 참조
+    const lobbyDirectory = useRef(createLobbyDirectory()); // 버전 기반 방 목록
+    const snapshotPending = useRef(false);
     const nickname = sessionStorage.getItem("nickname") || "";
 
     // 모달
@@ -155,42 +158,58 @@ function Join() {
     };
 
 
+    // [WebSocket] 스냅샷 / 변경분 반영
+    const applyLobbyMessage = (data) => {
+        const next = lobbyDirectory.current.apply(data);
+
+        // 버전이 어긋남 → 스냅샷 다시 요청
+        if (next == null) {
+            requestLobbySnapshot();
+            return;
+        }
+
+        // 소켓으로 온 데이터도 필터링 적용!
+        const validRooms = filterValidRooms(next);
+        setRooms(validRooms);
+
+        console.groupCollapsed(`[WS] 방 목록 갱신됨 (${new Date().toLocaleTimeString()})`);
+        console.table(validRooms.map(r => ({
+            제목: r.name,
+            인원: `${r.currentCount}/${r.maxCount}`,
+            상태: r.gameStarted ? '게임중' : '대기중',
+            잠금: r.passwordEnabled ? 'ON' : 'OFF'
+        })));
+        console.groupEnd();
+    };
+
+    const requestLobbySnapshot = () => {
+        if (snapshotPending.current || !client.current?.connected) return;
+        snapshotPending.current = true;
+
+        const subscription = client.current.subscribe('/app/lobbies/snapshot', (message) => {
+            snapshotPending.current = false;
+            subscription.unsubscribe();
+            applyLobbyMessage(JSON.parse(message.body));
+        });
+    };
+
     // [WebSocket] 소켓 연결 및 구독
     const connectWebSocket = () => {
         client.current = new Client({
-            webSocketFactory: () => new SockJS(`${API_BASE_URL}/ws-stomp`),
+            webSocketFactory: () => createStompSocket(),
             reconnectDelay: 5000, 
+            heartbeatIncoming: STOMP_HEARTBEAT_MS,
+            heartbeatOutgoing: STOMP_HEARTBEAT_MS,
             onConnect: () => {
                 console.log("[WS] 소켓 연결 성공!");
                 
                 client.current.subscribe('/topic/lobbies', (message) => {
-                    const updatedRoomsRaw = JSON.parse(message.body);
-                    // 소켓으로 온 데이터도 필터링 적용!
-                    const validRooms = filterValidRooms(updatedRoomsRaw);
-
-                    setRooms(validRooms);
-                    
-                    console.groupCollapsed(`[WS] 방 목록 갱신됨 (${new Date().toLocaleTimeString()})`);
-                    console.table(validRooms.map(r => ({
-                        제목: r.name,
-                        인원: `${r.currentCount}/${r.maxCount}`,
-                        상태: r.gameStarted ? '게임중' : '대기중',
-                        잠금: r.passwordEnabled ? 'ON' : 'OFF'
-                    })));
-
-                    // 시간 데이터값을 오름차순으로 정렬
-                    validRooms.sort((a, b) => {
-                        const dateA = new Date(a.createdAt).getTime();
-                        const dateB = new Date(b.createdAt).getTime();
-                        
-                        if (!dateA) return 1;
-                        if (!dateB) return -1;
-
-                        return dateA - dateB; // 작은 날짜가 먼저
-                    });
-
-                    console.groupEnd();
+                    applyLobbyMessage(JSON.parse(message.body));
                 });
+
+                // 구독 직후 현재 버전의 전체 목록을 받아 기준점으로 사용
+                snapshotPending.current = false;
+                requestLobbySnapshot();
             },
             onStompError: (frame) => {
                 console.error("[WS] 소켓 에러 발생:", frame.headers['message']);
@@ -1,10 +1,11 @@
 import React, { useEffect, useRef, useState } from "react";
 import { useNavigate, useParams, useLocation } from "react-router-dom";
 import { Client } from "@stomp/stompjs";
-import SockJS from "sockjs-client";
+import { createStompSocket, STOMP_HEARTBEAT_MS } from "../api/socket";
 import { nanoid } from "nanoid";
 import "./LobbyScreen.css";
 import { API_BASE_URL } from "../api/config";
+import { createUserRoster } from "../api/userRoster";
 import axios from "axios";
 import CreateRoomModal from "./CreateRoomModal";
 // 새로 만든 모달 컴포넌트 import (경로 주의)
@@ -57,6 +58,7 @@ function LobbyScreen() {
 
   const maxPlayers = 10;
   const clientRef = useRef(null);
+  const userRosterRef = useRef(createUserRoster());
 
   // uid -> timeoutId
   const bubbleTimeoutRef = useRef({});
@@ -169,13 +171,26 @@ function LobbyScreen() {
     if (clientRef.current?.active) return;
 
     const client = new Client({
-      webSocketFactory: () => new SockJS(`${API_BASE_URL}/ws-stomp`),
+      webSocketFactory: () => createStompSocket(),
+      heartbeatIncoming: STOMP_HEARTBEAT_MS,
+      heartbeatOutgoing: STOMP_HEARTBEAT_MS,
 
       onConnect: () => {
         console.log("STOMP CONNECTED");
 
         client.subscribe(`/topic/lobby/${roomId}`, (message) => {
-          const data = JSON.parse(message.body);
+          let data = JSON.parse(message.body);
+
+          if (data.type === "USER_DELTA") {
+            const users = userRosterRef.current.apply(data);
+            if (!users) {
+              client.publish({ destination: `/app/lobby/${roomId}/sync`, body: "{}" });
+              return;
+            }
+            data = { ...data, type: "USER_UPDATE", users };
+          } else if (data.type === "USER_UPDATE") {
+            userRosterRef.current.apply(data);
+          }
 
           if (data.type === "USER_UPDATE") {
             const serverSortedUsers = data.users || [];
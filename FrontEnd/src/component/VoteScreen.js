@@ -1,7 +1,7 @@
 import { useEffect, useState, useRef } from 'react';
 import { useParams, useNavigate, useLocation } from 'react-router-dom';
 import axios from 'axios';
-import SockJS from 'sockjs-client';
+import { createStompSocket, STOMP_HEARTBEAT_MS } from '../api/socket';
 import { Client } from '@stomp/stompjs';
 import { API_BASE_URL } from '../api/config';
 import './VoteScreen.css';
@@ -353,9 +353,11 @@ const VoteScreen = () => {
     };
     fetchVoteData();
 
-    const socket = new SockJS(`${API_BASE_URL}/ws-stomp`);
+    const socket = createStompSocket();
     const client = new Client({
       webSocketFactory: () => socket,
+      heartbeatIncoming: STOMP_HEARTBEAT_MS,
+      heartbeatOutgoing: STOMP_HEARTBEAT_MS,
       debug: () => {},
       onConnect: () => {
         console.log('✅ 투표 소켓 연결 성공!');
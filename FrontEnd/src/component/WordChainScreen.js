@@ -1,8 +1,8 @@
 import React, { useEffect, useMemo, useRef, useState } from "react";
 import { useNavigate, useParams, useLocation } from "react-router-dom";
-import SockJS from "sockjs-client";
+import { createStompSocket, STOMP_HEARTBEAT_MS } from "../api/socket";
 import { Client } from "@stomp/stompjs";
-import { API_BASE_URL } from "../api/config";
+import { createUserRoster } from "../api/userRoster";
 import "./LobbyScreen.css";
 import "./GameScreen.css";
 import { createPortal } from "react-dom";
@@ -14,6 +14,13 @@ const getProfileImgPath = (profileValue) => {
   return `/img/profile/profile${profileValue}.jpg`;
 };
 
+// 오답 사유 → 안내 문구
+const REJECT_MESSAGES = {
+  WAIT: "잠시 후 게임이 시작됩니다.",
+  NOT_IN_DICTIONARY: "사전에 없는 단어입니다.",
+  RULE: "규칙에 맞지 않는 단어입니다.",
+};
+
 function WordChainScreen() {
   const { lobbyId: roomId } = useParams();
   const navigate = useNavigate();
@@ -32,6 +39,11 @@ function WordChainScreen() {
   );
 
   const clientRef = useRef(null);
+  const userRosterRef = useRef(createUserRoster());
+
+  // 끝말잇기 이벤트 순번 (빈 번호가 보이면 전체 상태 다시 요청)
+  const versionRef = useRef(0);
+  const nickByIdRef = useRef({});
 
   /* =========================
      상태
@@ -164,10 +176,10 @@ function WordChainScreen() {
     if (clientRef.current?.active) return;
 
     const client = new Client({
-      webSocketFactory: () => new SockJS(`${API_BASE_URL}/ws-stomp`),
+      webSocketFactory: () => createStompSocket(),
       reconnectDelay: 3000,
-      heartbeatIncoming: 10000,
-      heartbeatOutgoing: 10000,
+      heartbeatIncoming: STOMP_HEARTBEAT_MS,
+      heartbeatOutgoing: STOMP_HEARTBEAT_MS,
       debug: () => {},
 
       onConnect: () => {
@@ -186,9 +198,17 @@ function WordChainScreen() {
         client.subscribe(`/topic/lobby/${roomId}`, (msg) => {
           const data = JSON.parse(msg.body);
 
-          if (data.type === "USER_UPDATE") {
-            setPlayers(data.users || []);
+          if (data.type === "USER_UPDATE" || data.type === "USER_DELTA") {
+            const users = userRosterRef.current.apply(data);
+            if (!users) {
+              client.publish({ destination: `/app/lobby/${roomId}/sync`, body: "{}" });
+              return;
+            }
+            setPlayers(users);
             setHostUserId(data.hostUserId || "");
+            users.forEach((u) => {
+              nickByIdRef.current[u.userId] = u.nickname;
+            });
           }
 
           if (data.type === "ROOM_DESTROYED") {
@@ -198,20 +218,44 @@ function WordChainScreen() {
         });
 
         /* 2) WordChain 상태 구독 */
-        client.subscribe(`/topic/wordchain/${roomId}`, (msg) => {
+        const onWordChainMessage = (msg) => {
           console.log("WORDCHAIN EVENT:", msg.body);
           const data = JSON.parse(msg.body);
 
-          if (data.type === "WORD_CHAIN_TURN_USER_LEFT") {
-            const newTurnUserId = data.newTurnUserId;
-            const newTurnStartAt = data.turnStartAt || Date.now();
+          const requestSync = () => {
+            client.publish({
+              destination: `/app/wordchain/${roomId}/sync`,
+              body: JSON.stringify({}),
+            });
+          };
+
+          // 다음 순번이면 반영, 이미 본 순번이면 무시, 건너뛴 순번이 있으면 전체 상태 요청
+          const acceptVersion = (version) => {
+            if (version <= versionRef.current) return false;
+            if (version !== versionRef.current + 1) {
+              requestSync();
+              return false;
+            }
+            versionRef.current = version;
+            return true;
+          };
 
-            // ✅ 턴 즉시 변경
-            setTurnUserId(newTurnUserId);
-            setEffectiveTurnStartAt(newTurnStartAt);
+          // 새 턴 시작 (타이머는 interval 이 다시 계산)
+          const applyTurn = (nextTurnUserId, nextTurnStartAt) => {
+            setTurnUserId(nextTurnUserId || "");
+            setRemainPercent(100);
+            setEffectiveTurnStartAt(nextTurnStartAt || Date.now());
+          };
+
+          if (data.type === "WORD_CHAIN_TURN") {
+            if (isForceEndedRef.current || !acceptVersion(data.version)) return;
+
+            applyTurn(data.turnUserId, data.turnStartAt);
+
+            if (data.reason !== "USER_LEFT") return;
 
             // ✅ 내가 새 턴이면 UX 즉시 반영
-            if (String(newTurnUserId) === String(userId)) {
+            if (String(data.turnUserId) === String(userId)) {
               setLastMessage("상대가 나가서 내 차례가 되었습니다.");
 
               // 입력창 포커스
@@ -254,8 +298,65 @@ function WordChainScreen() {
             return;
           }
 
+          // 오답: 상태 변화 없음, 메시지만
+          if (data.type === "WORD_CHAIN_REJECT") {
+            setLastMessage(REJECT_MESSAGES[data.reason] || "규칙에 맞지 않는 단어입니다.");
+            return;
+          }
+
+          if (data.type === "WORD_CHAIN_TIMEOUT") {
+            if (!acceptVersion(data.version)) return;
+
+            applyTurn(data.turnUserId, data.turnStartAt);
+            setLastMessage("시간 초과! 다음 턴으로 넘어갑니다.");
+            return;
+          }
+
+          // 정답: 현재 단어 / 점수 / 턴만 갱신
+          if (data.type === "WORD_CHAIN_ACCEPT") {
+            if (!acceptVersion(data.version)) return;
+
+            const w = data.word || "";
+            const lastChar = w ? w.charAt(w.length - 1) : "";
+
+            setTurnTimeLimit(Number(data.turnTimeLimit));
+            applyTurn(data.turnUserId, data.turnStartAt);
+            setCurrentWord(w);
+            setDisplayWord(lastChar);
+            setRound(data.round ?? 0);
+            setScoreByUserId((prev) => ({ ...prev, [data.userId]: data.score }));
+            setLastMessage(
+              data.deadEnd
+                ? `통과! '${lastChar}'(으)로 시작하는 단어가 사전에 없습니다.`
+                : "통과!"
+            );
+
+            const who = nickByIdRef.current[data.userId] || data.userId;
+            if (w) {
+              setLog((prev) => [
+                { t: Date.now(), text: `${who}: ${w}` },
+                ...prev,
+              ]);
+            }
+
+            // 점수 이펙트
+            setScoreEffect({
+              userId: data.userId,
+              value: 10,
+            });
+
+            setTimeout(() => {
+              setScoreEffect(null);
+            }, 2500);
+            return;
+          }
+
           if (data.type !== "WORD_CHAIN_STATE") return;
 
+            // 전체 상태가 기준점
+            versionRef.current = data.version ?? 0;
+            Object.assign(nickByIdRef.current, data.nickById || {});
+
             const SEEN_START_KEY = `wordchain_seen_start_${roomId}`;
             const seenStartAt = sessionStorage.getItem(SEEN_START_KEY);
 
@@ -357,34 +458,10 @@ function WordChainScreen() {
                 setDisplayWord(w ? w.charAt(w.length - 1) : ""); // 이후: 마지막 글자
               }
             }
-
-            // =========================
-            // 5️⃣ 정답 처리 (점수 + 로그)
-            // =========================
-            if (data.lastAction === "ACCEPT") {
-              const who =
-                data.nickById?.[data.submitUserId] || data.submitUserId;
-              const w = data.submitWord || "";
-
-              if (w) {
-                setLog((prev) => [
-                  { t: Date.now(), text: `${who}: ${w}` },
-                  ...prev,
-                ]);
-              }
-
-              // 점수 이펙트
-              setScoreEffect({
-                userId: data.submitUserId,
-                value: 10,
-              });
-
-              setTimeout(() => {
-                setScoreEffect(null);
-              }, 2500);
-            }
-          }
-        )
+        };
+        client.subscribe(`/topic/wordchain/${roomId}`, onWordChainMessage);
+        // 전체 상태 동기화(sync) 응답은 요청한 세션에만 옴
+        client.subscribe("/user/queue/wordchain", onWordChainMessage);
 
         /* 3) ⭐ 핵심: 초기 USER_UPDATE 강제 요청 */
         client.publish({